@@ -0,0 +1,75 @@
+package com.stagelog.Stagelog.global.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JwtAuthenticationFilter의 요청당 토큰 처리 비용 비교.
+ * legacy: 검증·타입 확인·subject 조회마다 파서를 새로 만들어 세 번 파싱.
+ * 이전 필터 코드를 그대로 옮긴 것이 아니라 그 호출 순서를 손으로 재구성한 것이다.
+ * singleParse: init에서 만든 파서로 한 번 파싱하고 claims를 재사용 (현재 필터 경로)
+ * 아직 실행한 적이 없어 절감 폭은 측정되지 않았다. 수치는 ./gradlew jmh로 돌린 뒤 기록한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JwtValidationBenchmark {
+
+    private static final String SECRET = Encoders.BASE64.encode(
+            "stagelog-benchmark-secret-key-0123456789".getBytes(StandardCharsets.UTF_8));
+
+    private JwtTokenProvider jwtTokenProvider;
+    private SecretKey secretKey;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setAccessTokenValidity(3_600_000L);
+        properties.setRefreshTokenValidity(1_209_600_000L);
+
+        jwtTokenProvider = new JwtTokenProvider(properties, null);
+        jwtTokenProvider.init();
+        secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        token = jwtTokenProvider.createAccessToken(1L, "bench@stagelog.com", "ROLE_USER", 0);
+    }
+
+    @Benchmark
+    public String legacy() {
+        Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
+        Claims typeClaims = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+        if (!"access".equals(typeClaims.get("type", String.class))) {
+            throw new IllegalStateException();
+        }
+        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public String singleParse() {
+        ValidatedToken validatedToken = jwtTokenProvider.validate(token);
+        if (!validatedToken.isAccessToken()) {
+            throw new IllegalStateException();
+        }
+        return validatedToken.getEmail();
+    }
+}
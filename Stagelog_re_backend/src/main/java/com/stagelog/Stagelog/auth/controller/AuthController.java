@@ -8,6 +8,7 @@ import com.stagelog.Stagelog.auth.dto.AuthTokenResult;
 import com.stagelog.Stagelog.auth.service.AuthService;
 import com.stagelog.Stagelog.global.exception.ErrorCode;
 import com.stagelog.Stagelog.global.exception.UnauthorizedException;
+import com.stagelog.Stagelog.global.jwt.JwtTokenProvider;
 import com.stagelog.Stagelog.global.security.CustomUserDetails;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -31,6 +32,7 @@ public class AuthController {
 
     private final AuthService authService;
     private final RefreshTokenCookieManager refreshTokenCookieManager;
+    private final JwtTokenProvider jwtTokenProvider;
 
     @GetMapping("/check-userid")
     public ResponseEntity<Boolean> checkUserId(@RequestParam String userId) {
@@ -69,9 +71,10 @@ public class AuthController {
     @PostMapping("/logout")
     public ResponseEntity<Void> logout(
             @AuthenticationPrincipal CustomUserDetails userDetails,
+            HttpServletRequest request,
             HttpServletResponse response
     ) {
-        authService.logout(userDetails.getUsername());
+        authService.logout(userDetails.getUsername(), jwtTokenProvider.resolveToken(request));
         refreshTokenCookieManager.expireRefreshTokenCookie(response);
         return ResponseEntity.noContent().build();
     }
@@ -12,9 +12,11 @@ import com.stagelog.Stagelog.global.jwt.JwtTokenProvider;
 import com.stagelog.Stagelog.global.jwt.RefreshTokenHasher;
 import com.stagelog.Stagelog.global.jwt.domain.RefreshToken;
 import com.stagelog.Stagelog.global.jwt.repository.RefreshTokenRepository;
+import com.stagelog.Stagelog.global.security.AccessTokenDenylist;
 import com.stagelog.Stagelog.user.domain.User;
 import com.stagelog.Stagelog.user.domain.UserStatus;
 import com.stagelog.Stagelog.user.repository.UserRepository;
+import java.time.LocalDateTime;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -31,8 +33,10 @@ public class AuthService {
     private final RefreshTokenHasher refreshTokenHasher;
     private final RefreshTokenRepository refreshTokenRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordVerifier passwordVerifier;
     private final LoginAttemptService loginAttemptService;
     private final AuthTokenIssuer authTokenIssuer;
+    private final AccessTokenDenylist accessTokenDenylist;
 
     @Transactional(readOnly = true)
     public Boolean existUser(String userId) {
@@ -58,7 +62,10 @@ public class AuthService {
         return userRepository.save(user).getId();
     }
 
-    @Transactional
+    /**
+     * 트랜잭션으로 묶지 않는다. 사용자 조회·실패 기록·토큰 저장은 각자 짧은 트랜잭션으로 끝나고,
+     * BCrypt 검증({@link PasswordVerifier})은 그 사이에서 DB 커넥션 없이 기다린다.
+     */
     public AuthTokenResult login(LoginRequest request, String clientIp) {
         String userId = request.getUserId();
         loginAttemptService.validateNotLocked(userId, clientIp);
@@ -77,7 +84,7 @@ public class AuthService {
 
         assertActiveUser(user);
         loginAttemptService.clearFailures(userId, clientIp);
-        user.updateLastLoginAt();
+        userRepository.updateLastLoginAt(user.getId(), LocalDateTime.now());
 
         return authTokenIssuer.issueFor(user);
     }
@@ -112,8 +119,7 @@ public class AuthService {
             throw new UnauthorizedException(ErrorCode.AUTH_ACCOUNT_BLOCKED);
         }
 
-        String role = user.getRole().getValue();
-        TokenPairWithHash pair = authTokenIssuer.createTokenPair(email, role);
+        TokenPairWithHash pair = authTokenIssuer.createTokenPair(user);
 
         // Refresh Token Rotation
         storedToken.rotate(pair.refreshTokenHash(), jwtProperties.getRefreshTokenValidity());
@@ -127,9 +133,15 @@ public class AuthService {
         );
     }
 
+    /**
+     * refresh token을 지우고, 요청에 쓴 access token도 남은 유효 기간 동안 쓰지 못하게 한다.
+     */
     @Transactional
-    public void logout(String email) {
+    public void logout(String email, String accessToken) {
         refreshTokenRepository.deleteByEmail(email);
+        if (StringUtils.hasText(accessToken)) {
+            accessTokenDenylist.revoke(jwtTokenProvider.validate(accessToken));
+        }
     }
 
     private boolean isValidPassword(String rawPassword, String encodedPassword) {
@@ -137,7 +149,7 @@ public class AuthService {
             return false;
         }
         try {
-            return passwordEncoder.matches(rawPassword, encodedPassword);
+            return passwordVerifier.matches(rawPassword, encodedPassword);
         } catch (IllegalArgumentException e) {
             return false;
         }
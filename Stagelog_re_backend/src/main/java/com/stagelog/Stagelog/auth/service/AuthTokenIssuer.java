@@ -34,9 +34,8 @@ public class AuthTokenIssuer {
     @Transactional
     public AuthTokenResult issueFor(User user) {
         String email = user.getEmail();
-        String role = user.getRole().getValue();
 
-        TokenPairWithHash pair = createTokenPair(email, role);
+        TokenPairWithHash pair = createTokenPair(user);
 
         refreshTokenRepository.upsertByEmail(
                 email,
@@ -58,9 +57,11 @@ public class AuthTokenIssuer {
      * {@code AuthService.refresh()}의 rotation 헬퍼 — package-private.
      * 외부에서 직접 호출 금지: 반드시 {@link #issueFor(User)}를 사용할 것.
      */
-    TokenPairWithHash createTokenPair(String email, String role) {
-        String accessToken = jwtTokenProvider.createAccessToken(email, role);
-        String refreshToken = jwtTokenProvider.createRefreshToken(email, role);
+    TokenPairWithHash createTokenPair(User user) {
+        String role = user.getRole().getValue();
+        String accessToken = jwtTokenProvider.createAccessToken(
+                user.getId(), user.getEmail(), role, user.getTokenVersion());
+        String refreshToken = jwtTokenProvider.createRefreshToken(user.getEmail(), role);
         String refreshTokenHash = refreshTokenHasher.hash(refreshToken);
         return new TokenPairWithHash(accessToken, refreshToken, refreshTokenHash);
     }
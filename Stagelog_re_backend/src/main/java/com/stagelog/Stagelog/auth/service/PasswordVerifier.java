@@ -0,0 +1,109 @@
+package com.stagelog.Stagelog.auth.service;
+
+import com.stagelog.Stagelog.global.exception.ErrorCode;
+import com.stagelog.Stagelog.global.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * BCrypt 비교를 CPU 코어 수만큼의 전용 스레드에서 실행한다.
+ * 대기열이 가득 차면 기다리지 않고 429로 끊으므로, 로그인 폭주가 붙잡을 수 있는 요청 스레드는
+ * (스레드 수 + 대기열 크기)개로 제한되고 나머지 API는 영향을 받지 않는다.
+ * 로그인은 검증을 트랜잭션 밖에서 기다리므로(open-in-view도 끔) 대기 중인 요청이 DB 커넥션을 잡고 있지 않는다.
+ */
+@Slf4j
+@Component
+public class PasswordVerifier {
+
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordVerifierProperties properties;
+    private final ThreadPoolExecutor executor;
+    private final Timer hashTimer;
+    private final MeterRegistry meterRegistry;
+
+    public PasswordVerifier(
+            PasswordEncoder passwordEncoder,
+            PasswordVerifierProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        int threads = properties.getThreads() > 0
+                ? properties.getThreads()
+                : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-verifier-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        // executor.queued / executor.active / executor.pool.size 등 (name=passwordVerifier)
+        new ExecutorServiceMetrics(executor, "passwordVerifier", Tags.empty()).bindTo(meterRegistry);
+        this.hashTimer = Timer.builder("auth.password.verify")
+                .description("BCrypt 비교에 걸린 시간 (대기열 대기 제외)")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        Future<Boolean> future;
+        try {
+            future = executor.submit(() -> hashTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+        } catch (RejectedExecutionException e) {
+            throw busy("queue_full");
+        }
+
+        try {
+            return future.get(properties.getWaitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw busy("timeout");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw busy("interrupted");
+        } catch (ExecutionException e) {
+            // 잘못된 해시 형식(IllegalArgumentException) 등은 호출한 쪽에서 처리하던 그대로 넘긴다
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    private TooManyRequestsException busy(String reason) {
+        meterRegistry.counter("auth.password.verify.rejected", "reason", reason).increment();
+        log.warn("비밀번호 검증 거절: reason={}, queued={}", reason, executor.getQueue().size());
+        return new TooManyRequestsException(ErrorCode.AUTH_LOGIN_BUSY);
+    }
+}
@@ -0,0 +1,17 @@
+package com.stagelog.Stagelog.auth.service;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.auth.password-verifier")
+public class PasswordVerifierProperties {
+    private int threads = 0;                              // 0이면 CPU 코어 수
+    private int queueCapacity = 16;                       // 이보다 많이 밀리면 바로 429
+    private Duration waitTimeout = Duration.ofSeconds(3); // 요청 스레드가 해시 결과를 기다리는 한도
+}
@@ -0,0 +1,34 @@
+package com.stagelog.Stagelog.global.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.stagelog.Stagelog.global.jwt.JwtProperties;
+import java.time.Duration;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 캐시 저장소와 크기/TTL은 spring.cache.* 설정으로 정한다 (기본 Caffeine).
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String PERFORMANCE_DETAIL = "performanceDetail";
+    public static final String USER_PRINCIPAL = "userPrincipal";
+
+    /**
+     * 인증 principal은 공연 상세보다 훨씬 짧게 유지해야 하므로 공통 spec 대신 별도 설정으로 등록한다.
+     * 시작 시점에 등록된 캐시라 cache.gets/cache.evictions 메트릭도 함께 노출된다.
+     */
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> userPrincipalCacheCustomizer(JwtProperties jwtProperties) {
+        return cacheManager -> cacheManager.registerCustomCache(USER_PRINCIPAL, Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getPrincipalCacheMaxSize())
+                .expireAfterWrite(Duration.ofMillis(jwtProperties.getPrincipalCacheTtl()))
+                .recordStats()
+                .build());
+    }
+}
@@ -36,6 +36,10 @@ public class SecurityConfig {
     private final OAuth2AuthenticationSuccessHandler oAuth2SuccessHandler;
     private final OAuth2AuthenticationFailureHandler oAuth2FailureHandler;
 
+    // 메트릭은 외부에 열지 않는 관리 포트로만 스크랩한다 (설정하지 않으면 -1 → ADMIN만 조회)
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     @Value("${app.cors.allowed-origins}")
     private String allowedOriginsRaw;
 
@@ -58,8 +62,12 @@ public class SecurityConfig {
                         .requestMatchers(
                                 "/api/auth/**", "/api/performances/**", "/api/migration/**",
                                 "/performance-admin.html",
-                                "/oauth2/**", "/login/oauth2/**"
+                                "/oauth2/**", "/login/oauth2/**",
+                                "/actuator/health"
                         ).permitAll()
+                        .requestMatchers(request -> request.getLocalPort() == managementPort
+                                && "/actuator/prometheus".equals(request.getRequestURI())).permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
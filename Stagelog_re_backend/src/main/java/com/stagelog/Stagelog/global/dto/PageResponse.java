@@ -0,0 +1,31 @@
+package com.stagelog.Stagelog.global.dto;
+
+import java.util.List;
+import org.springframework.data.domain.Page;
+
+/**
+ * 오프셋 페이지 응답. PageImpl을 그대로 직렬화하지 않고 프론트엔드가 쓰는 필드만 고정해 내보낸다.
+ */
+public record PageResponse<T>(
+        List<T> content,
+        int totalPages,
+        long totalElements,
+        int number,
+        int size,
+        boolean first,
+        boolean last,
+        boolean empty
+) {
+    public static <T> PageResponse<T> from(Page<T> page) {
+        return new PageResponse<>(
+                page.getContent(),
+                page.getTotalPages(),
+                page.getTotalElements(),
+                page.getNumber(),
+                page.getSize(),
+                page.isFirst(),
+                page.isLast(),
+                page.isEmpty()
+        );
+    }
+}
@@ -13,4 +13,8 @@ public class BatchProcessException extends BusinessException {
     public BatchProcessException(ErrorCode errorCode, Throwable cause) {
         super(errorCode, cause);
     }
+
+    public BatchProcessException(ErrorCode errorCode, String customMessage, Throwable cause) {
+        super(errorCode, customMessage, cause);
+    }
 }
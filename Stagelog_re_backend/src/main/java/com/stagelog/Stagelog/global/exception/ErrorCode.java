@@ -24,6 +24,7 @@ public enum ErrorCode {
     AUTH_OAUTH2_PROVIDER_ERROR(HttpStatus.BAD_GATEWAY, "AUTH_006", "소셜 로그인 처리 중 오류가 발생했습니다."),
     AUTH_OAUTH2_MISSING_EMAIL(HttpStatus.BAD_REQUEST, "AUTH_007", "소셜 계정에서 이메일을 제공받지 못했습니다."),
     AUTH_OAUTH2_EMAIL_CONFLICT(HttpStatus.CONFLICT, "AUTH_008", "이미 가입된 계정입니다."),
+    AUTH_LOGIN_BUSY(HttpStatus.TOO_MANY_REQUESTS, "AUTH_009", "로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // ===== Performance 관련 =====
     PERFORMANCE_NOT_FOUND(HttpStatus.NOT_FOUND, "PERFORMANCE_001", "공연을 찾을 수 없습니다."),
@@ -32,6 +33,10 @@ public enum ErrorCode {
     // ===== Batch 관련 =====
     BATCH_EXECUTION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "BATCH_001", "배치 실행 중 오류가 발생했습니다."),
     BATCH_INTERRUPTED(HttpStatus.INTERNAL_SERVER_ERROR, "BATCH_002", "배치 처리가 중단되었습니다."),
+    BATCH_EXECUTION_NOT_FOUND(HttpStatus.NOT_FOUND, "BATCH_003", "배치 실행 이력을 찾을 수 없습니다."),
+    KOPIS_API_FAILED(HttpStatus.BAD_GATEWAY, "BATCH_004", "KOPIS API 호출에 실패했습니다."),
+    KOPIS_CIRCUIT_OPEN(HttpStatus.SERVICE_UNAVAILABLE, "BATCH_005", "KOPIS API 장애로 호출이 일시 차단되었습니다."),
+    BATCH_ITEM_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "BATCH_006", "배치 항목 처리에 실패했습니다."),
 
     // ===== 공통 =====
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "COMMON_001", "잘못된 입력값입니다."),
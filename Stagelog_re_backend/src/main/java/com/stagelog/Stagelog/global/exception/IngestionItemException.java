@@ -0,0 +1,17 @@
+package com.stagelog.Stagelog.global.exception;
+
+import lombok.Getter;
+
+/**
+ * 공연 한 건의 수집 실패. 비동기 상세 조회처럼 실패가 Future로 전달되면 원래 아이템을 알 수 없으므로
+ * mt20id를 예외에 담아 dead letter에 남길 수 있게 한다. 원인 예외는 cause로 유지한다.
+ */
+@Getter
+public class IngestionItemException extends BatchProcessException {
+    private final String kopisId;
+
+    public IngestionItemException(String kopisId, Throwable cause) {
+        super(ErrorCode.BATCH_ITEM_FAILED, "공연 처리 실패: " + kopisId + " - " + cause.getMessage(), cause);
+        this.kopisId = kopisId;
+    }
+}
@@ -0,0 +1,26 @@
+package com.stagelog.Stagelog.global.exception;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * KOPIS 호출 실패. 빈 결과와 구분하기 위해 클라이언트는 오류를 삼키지 않고 이 예외를 던진다.
+ * {@code retryable}은 일시적 장애(5xx, 429, 연결/타임아웃) 여부, {@code retryAfter}는 서버가 준 Retry-After 값이다.
+ */
+@Getter
+public class KopisApiException extends BatchProcessException {
+    private final boolean retryable;
+    private final Duration retryAfter;
+
+    public KopisApiException(String message, boolean retryable, Duration retryAfter, Throwable cause) {
+        super(ErrorCode.KOPIS_API_FAILED, message, cause);
+        this.retryable = retryable;
+        this.retryAfter = retryAfter;
+    }
+
+    public KopisApiException(ErrorCode errorCode, String message) {
+        super(errorCode, message);
+        this.retryable = false;
+        this.retryAfter = null;
+    }
+}
@@ -0,0 +1,12 @@
+package com.stagelog.Stagelog.global.exception;
+
+public class TooManyRequestsException extends BusinessException {
+
+    public TooManyRequestsException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+
+    public TooManyRequestsException(ErrorCode errorCode, String customMessage) {
+        super(errorCode, customMessage);
+    }
+}
@@ -2,6 +2,9 @@ package com.stagelog.Stagelog.global.jwt;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.stagelog.Stagelog.global.exception.ErrorResponse;
+import com.stagelog.Stagelog.global.security.AccessTokenDenylist;
+import com.stagelog.Stagelog.global.security.CustomUserDetails;
+import com.stagelog.Stagelog.global.security.TokenVersionRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,6 +27,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     public static final String TOKEN_INVALID_CODE = "TOKEN_INVALID";
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final AccessTokenDenylist accessTokenDenylist;
     private final ObjectMapper objectMapper;
 
     /**
@@ -50,11 +55,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        JwtTokenProvider.TokenValidationResult tokenValidationResult = jwtTokenProvider.getTokenValidationResult(token);
-        if (tokenValidationResult != JwtTokenProvider.TokenValidationResult.VALID) {
+        // 파싱·서명 검증은 여기서 한 번만 하고 이후 단계는 claims를 넘겨 쓴다
+        ValidatedToken validatedToken = jwtTokenProvider.validate(token);
+        if (!validatedToken.isValid()) {
             request.setAttribute(
                     TOKEN_ERROR_CODE_ATTRIBUTE,
-                    tokenValidationResult == JwtTokenProvider.TokenValidationResult.EXPIRED
+                    validatedToken.result() == JwtTokenProvider.TokenValidationResult.EXPIRED
                             ? TOKEN_EXPIRED_CODE
                             : TOKEN_INVALID_CODE
             );
@@ -62,14 +68,36 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        if (!jwtTokenProvider.isAccessToken(token)) {
+        if (!validatedToken.isAccessToken()) {
             sendErrorResponse(response, HttpStatus.UNAUTHORIZED, "Access Token이 아닙니다.");
             return;
         }
 
-        Authentication authentication = jwtTokenProvider.getAuthentication(token);
+        // claims 기반 principal은 DB 상태를 보지 않으므로, 정지/탈퇴로 무효화된 토큰은 여기서 막는다
+        if (!tokenVersionRegistry.isCurrent(validatedToken)) {
+            sendErrorResponse(response, HttpStatus.FORBIDDEN, "정지되었거나 탈퇴한 사용자입니다.");
+            return;
+        }
+
+        // 로그아웃한 토큰은 만료 전이라도 인증하지 않는다 (Bloom filter에 걸린 경우에만 DB 확인)
+        if (accessTokenDenylist.isRevoked(validatedToken)) {
+            request.setAttribute(TOKEN_ERROR_CODE_ATTRIBUTE, TOKEN_INVALID_CODE);
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Authentication authentication = jwtTokenProvider.getAuthentication(validatedToken);
         UserDetails userDetails = (UserDetails) authentication.getPrincipal();
 
+        // uid claim이 없는 토큰은 DB principal의 id로 버전을 본다. 캐시된 principal은 다른 노드의
+        // 정지/탈퇴를 캐시가 비워질 때까지 ACTIVE로 보여 주므로 상태만으로는 제때 막지 못한다
+        if (validatedToken.getUserId() == null
+                && userDetails instanceof CustomUserDetails principal
+                && !tokenVersionRegistry.isCurrent(principal.getUserId(), validatedToken.getTokenVersion())) {
+            sendErrorResponse(response, HttpStatus.FORBIDDEN, "정지되었거나 탈퇴한 사용자입니다.");
+            return;
+        }
+
         if (!userDetails.isEnabled()) {
             sendErrorResponse(response, HttpStatus.FORBIDDEN, "탈퇴한 사용자입니다.");
             return;
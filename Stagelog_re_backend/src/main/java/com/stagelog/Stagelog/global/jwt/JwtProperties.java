@@ -14,6 +14,12 @@ public class JwtProperties {
     private Long accessTokenValidity;
     private Long refreshTokenValidity;
     private String refreshTokenPepper;
+    private boolean claimsPrincipal = true;        // false면 요청마다 DB에서 사용자를 읽는다
+    private Long revocationSyncInterval = 5000L;  // 다른 노드의 정지/탈퇴를 반영하는 주기 (ms)
+    private Long principalCacheTtl = 300000L;     // DB 조회 principal 캐시 유지 시간 (ms)
+    private long principalCacheMaxSize = 10000;
+    private int revocationFilterCapacity = 100000;            // 로그아웃 토큰 Bloom filter 예상 원소 수
+    private double revocationFilterFalsePositiveRate = 0.001; // 오탐 시에만 DB를 조회한다
 
 
 }
@@ -1,14 +1,18 @@
 package com.stagelog.Stagelog.global.jwt;
 
+import com.stagelog.Stagelog.global.security.CustomUserDetails;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.Date;
+import java.util.UUID;
 import javax.crypto.SecretKey;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,61 +33,101 @@ public class JwtTokenProvider {
         INVALID
     }
 
+    static final String TYPE_CLAIM = "type";
+    static final String ROLE_CLAIM = "role";
+    static final String USER_ID_CLAIM = "uid";
+    static final String TOKEN_VERSION_CLAIM = "ver";
+    static final String ACCESS_TYPE = "access";
+    static final String REFRESH_TYPE = "refresh";
+
     private final JwtProperties jwtProperties;
     private final UserDetailsService userDetailsService;
     private SecretKey secretKey;
+    private JwtParser jwtParser; // 불변·스레드 안전하므로 요청마다 만들지 않고 재사용
 
     @PostConstruct
     public void init() {
         byte[] keyBytes = Decoders.BASE64.decode(jwtProperties.getSecret());
         this.secretKey = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
     }
 
-    public String createAccessToken(String email, String role) {
-        return createToken(email, role, "access", jwtProperties.getAccessTokenValidity());
+    /**
+     * access token에는 인증에 필요한 사용자 정보(id, role, 토큰 버전)를 모두 담아 요청마다 users 테이블을 조회하지 않게 한다.
+     * jti는 로그아웃 시 이 토큰 하나만 무효화하는 데 쓴다.
+     */
+    public String createAccessToken(Long userId, String email, String role, int tokenVersion) {
+        return createToken(email, role, ACCESS_TYPE, jwtProperties.getAccessTokenValidity())
+                .id(UUID.randomUUID().toString())
+                .claim(USER_ID_CLAIM, userId)
+                .claim(TOKEN_VERSION_CLAIM, tokenVersion)
+                .compact();
     }
 
     public String createRefreshToken(String email, String role) {
-        return createToken(email, role, "refresh", jwtProperties.getRefreshTokenValidity());
+        return createToken(email, role, REFRESH_TYPE, jwtProperties.getRefreshTokenValidity()).compact();
     }
 
-    private String createToken(String email, String role, String type, Long validity) {
+    private JwtBuilder createToken(String email, String role, String type, Long validity) {
         long now = System.currentTimeMillis();
 
         return Jwts.builder()
                 .subject(email)
-                .claim("role", role)
-                .claim("type", type)
+                .claim(ROLE_CLAIM, role)
+                .claim(TYPE_CLAIM, type)
                 .issuedAt(new Date(now))
                 .expiration(new Date(now + validity))
-                .signWith(secretKey)
-                .compact();
+                .signWith(secretKey);
     }
 
-    public Authentication getAuthentication(String token) {
-        String email = getEmail(token);
-        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+    /**
+     * 토큰을 한 번만 파싱·검증한다. 요청 처리 중에는 반환된 claims를 넘겨 쓰고 토큰 문자열을 다시 파싱하지 않는다.
+     */
+    public ValidatedToken validate(String token) {
+        try {
+            return ValidatedToken.valid(jwtParser.parseSignedClaims(token).getPayload());
+        } catch (ExpiredJwtException e) {
+            log.info("만료된 JWT 토큰입니다.");
+            return ValidatedToken.expired(e.getClaims());
+        } catch (JwtException | IllegalArgumentException e) {
+            log.info("유효하지 않은 JWT 토큰입니다.");
+            return ValidatedToken.invalid();
+        }
+    }
+
+    /**
+     * 서명된 claims로 principal을 만든다. 정지·탈퇴 여부는 {@code TokenVersionRegistry}가 토큰 버전으로 판단한다.
+     * uid claim이 없는 이전 형식 토큰이나 claims 모드를 끈 배포에서는 DB에서 사용자를 읽는다.
+     */
+    public Authentication getAuthentication(ValidatedToken token) {
+        UserDetails userDetails = jwtProperties.isClaimsPrincipal() && token.getUserId() != null
+                ? CustomUserDetails.fromClaims(token.getUserId(), token.getEmail(), token.getRole())
+                : userDetailsService.loadUserByUsername(token.getEmail());
         return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
     }
 
+    public Authentication getAuthentication(String token) {
+        return getAuthentication(validate(token));
+    }
+
     public String getEmail(String token) {
         return parseClaims(token).getSubject();
     }
 
     public String getRole(String token) {
-        return parseClaims(token).get("role", String.class);
+        return parseClaims(token).get(ROLE_CLAIM, String.class);
     }
 
     public String getType(String token) {
-        return parseClaims(token).get("type", String.class);
+        return parseClaims(token).get(TYPE_CLAIM, String.class);
     }
 
     public boolean isAccessToken(String token) {
-        return "access".equals(getType(token));
+        return ACCESS_TYPE.equals(getType(token));
     }
 
     public boolean isRefreshToken(String token) {
-        return "refresh".equals(getType(token));
+        return REFRESH_TYPE.equals(getType(token));
     }
 
     public boolean validateToken(String token) {
@@ -91,16 +135,7 @@ public class JwtTokenProvider {
     }
 
     public TokenValidationResult getTokenValidationResult(String token) {
-        try {
-            Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
-            return TokenValidationResult.VALID;
-        } catch (ExpiredJwtException e) {
-            log.info("만료된 JWT 토큰입니다.");
-            return TokenValidationResult.EXPIRED;
-        } catch (JwtException | IllegalArgumentException e) {
-            log.info("유효하지 않은 JWT 토큰입니다.");
-            return TokenValidationResult.INVALID;
-        }
+        return validate(token).result();
     }
 
     public String resolveToken(HttpServletRequest request) {
@@ -113,8 +148,7 @@ public class JwtTokenProvider {
 
     private Claims parseClaims(String token) {
         try {
-            return Jwts.parser().verifyWith(secretKey).build()
-                    .parseSignedClaims(token).getPayload();
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
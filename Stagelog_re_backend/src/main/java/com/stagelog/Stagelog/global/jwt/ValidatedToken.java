@@ -0,0 +1,71 @@
+package com.stagelog.Stagelog.global.jwt;
+
+import io.jsonwebtoken.Claims;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 한 번 파싱·서명 검증한 토큰. 필터는 이 객체의 claims만 보고 같은 토큰을 다시 파싱하지 않는다.
+ * 만료된 토큰도 claims를 담지만 인증에는 쓰지 않는다. 형식이 깨지거나 서명이 틀린 토큰은 claims가 null이다.
+ */
+public record ValidatedToken(
+        JwtTokenProvider.TokenValidationResult result,
+        Claims claims
+) {
+    static ValidatedToken valid(Claims claims) {
+        return new ValidatedToken(JwtTokenProvider.TokenValidationResult.VALID, claims);
+    }
+
+    static ValidatedToken expired(Claims claims) {
+        return new ValidatedToken(JwtTokenProvider.TokenValidationResult.EXPIRED, claims);
+    }
+
+    static ValidatedToken invalid() {
+        return new ValidatedToken(JwtTokenProvider.TokenValidationResult.INVALID, null);
+    }
+
+    public boolean isValid() {
+        return result == JwtTokenProvider.TokenValidationResult.VALID;
+    }
+
+    public boolean isAccessToken() {
+        return isValid() && JwtTokenProvider.ACCESS_TYPE.equals(claims.get(JwtTokenProvider.TYPE_CLAIM, String.class));
+    }
+
+    public boolean isRefreshToken() {
+        return isValid() && JwtTokenProvider.REFRESH_TYPE.equals(claims.get(JwtTokenProvider.TYPE_CLAIM, String.class));
+    }
+
+    public String getEmail() {
+        return claims == null ? null : claims.getSubject();
+    }
+
+    public String getRole() {
+        return claims == null ? null : claims.get(JwtTokenProvider.ROLE_CLAIM, String.class);
+    }
+
+    /**
+     * uid claim이 없는 이전 형식 토큰이면 null.
+     */
+    public Long getUserId() {
+        return claims == null ? null : claims.get(JwtTokenProvider.USER_ID_CLAIM, Long.class);
+    }
+
+    /**
+     * jti claim이 없는 이전 형식 토큰이면 null.
+     */
+    public String getTokenId() {
+        return claims == null ? null : claims.getId();
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return claims == null || claims.getExpiration() == null
+                ? null
+                : LocalDateTime.ofInstant(claims.getExpiration().toInstant(), ZoneId.systemDefault());
+    }
+
+    public int getTokenVersion() {
+        Integer version = claims == null ? null : claims.get(JwtTokenProvider.TOKEN_VERSION_CLAIM, Integer.class);
+        return version == null ? 0 : version;
+    }
+}
@@ -0,0 +1,35 @@
+package com.stagelog.Stagelog.global.jwt.repository;
+
+import com.stagelog.Stagelog.global.jwt.domain.RevokedAccessToken;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface RevokedAccessTokenRepository extends JpaRepository<RevokedAccessToken, Long> {
+
+    boolean existsByJti(String jti);
+
+    // 같은 토큰으로 로그아웃을 두 번 호출해도 실패하지 않게 한다
+    @Modifying
+    @Query(value = """
+            INSERT INTO revoked_access_tokens (jti, expires_at, created_at, updated_at)
+            VALUES (:jti, :expiresAt, NOW(), NOW())
+            ON CONFLICT (jti) DO NOTHING
+            """, nativeQuery = true)
+    void insertIgnore(@Param("jti") String jti, @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Query("SELECT r.jti FROM RevokedAccessToken r WHERE r.expiresAt > :now")
+    List<String> findActiveJtis(@Param("now") LocalDateTime now);
+
+    @Query("SELECT r.jti FROM RevokedAccessToken r WHERE r.createdAt >= :since AND r.expiresAt > :now")
+    List<String> findActiveJtisCreatedSince(@Param("since") LocalDateTime since, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedAccessToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
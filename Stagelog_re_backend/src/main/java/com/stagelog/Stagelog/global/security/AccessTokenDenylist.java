@@ -0,0 +1,130 @@
+package com.stagelog.Stagelog.global.security;
+
+import com.stagelog.Stagelog.global.jwt.JwtProperties;
+import com.stagelog.Stagelog.global.jwt.ValidatedToken;
+import com.stagelog.Stagelog.global.jwt.repository.RevokedAccessTokenRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료 전에 무효화한 access token(jti) 목록. 메모리에는 Bloom filter만 두고,
+ * 필터가 "있을 수도 있음"이라고 답한 토큰만 revoked_access_tokens에서 정확히 확인한다.
+ * 다른 노드의 무효화는 {@link TokenVersionRegistry}와 같은 주기로 created_at 증분 조회해 반영하고,
+ * access token 유효 기간마다 만료된 행을 지우고 필터를 새로 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccessTokenDenylist {
+
+    // 노드 간 시계 차이와 커밋 지연을 덮기 위해 지난 조회 시점보다 이만큼 앞에서부터 다시 읽는다
+    private static final long SYNC_OVERLAP_SECONDS = 30;
+
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+    private final JwtProperties jwtProperties;
+    private final MeterRegistry meterRegistry;
+
+    private volatile BloomFilter filter;
+    private ScheduledExecutorService syncExecutor;
+    private volatile LocalDateTime lastSyncedAt;
+
+    @PostConstruct
+    public void init() {
+        lastSyncedAt = LocalDateTime.now();
+        rebuild();
+
+        syncExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "access-token-denylist-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = jwtProperties.getRevocationSyncInterval();
+        long rebuildInterval = jwtProperties.getAccessTokenValidity();
+        syncExecutor.scheduleWithFixedDelay(this::sync, interval, interval, TimeUnit.MILLISECONDS);
+        syncExecutor.scheduleWithFixedDelay(this::rebuildSafely, rebuildInterval, rebuildInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (syncExecutor != null) {
+            syncExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 호출한 트랜잭션 안에서 기록한다. 필터에는 바로 넣는데, 커밋 전이라도 DB 확인 한 번이 늘 뿐 결과는 틀리지 않는다.
+     * jti가 없는 이전 형식 토큰과 이미 만료된 토큰은 무효화할 필요가 없다.
+     */
+    public void revoke(ValidatedToken token) {
+        String jti = token.getTokenId();
+        if (!token.isValid() || jti == null) {
+            return;
+        }
+        revokedAccessTokenRepository.insertIgnore(jti, token.getExpiresAt());
+        filter.put(jti);
+        log.info("access token 무효화: jti={}", jti);
+    }
+
+    /**
+     * 필터에 없으면 DB를 보지 않는다. 대부분의 요청은 여기서 끝난다.
+     */
+    public boolean isRevoked(ValidatedToken token) {
+        String jti = token.getTokenId();
+        if (jti == null || !filter.mightContain(jti)) {
+            return false;
+        }
+        boolean revoked = revokedAccessTokenRepository.existsByJti(jti);
+        meterRegistry.counter("auth.access_token.denylist.lookups",
+                "result", revoked ? "revoked" : "false_positive").increment();
+        return revoked;
+    }
+
+    void sync() {
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            List<String> jtis = revokedAccessTokenRepository.findActiveJtisCreatedSince(
+                    lastSyncedAt.minusSeconds(SYNC_OVERLAP_SECONDS), startedAt);
+            BloomFilter current = filter;
+            jtis.forEach(current::put);
+            lastSyncedAt = startedAt;
+        } catch (Exception e) {
+            // 다음 주기에 같은 구간부터 다시 읽는다
+            log.warn("access token 무효화 목록 동기화 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 만료된 토큰은 서명 검증에서 이미 걸러지므로 목록에서 빼고, 남은 토큰만으로 필터를 다시 만든다.
+     * 교체 직전에 들어온 무효화는 다음 sync가 겹치는 구간을 다시 읽으며 채운다.
+     */
+    void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = revokedAccessTokenRepository.deleteExpired(now);
+        List<String> active = revokedAccessTokenRepository.findActiveJtis(now);
+
+        BloomFilter rebuilt = BloomFilter.create(
+                Math.max(jwtProperties.getRevocationFilterCapacity(), active.size() * 2),
+                jwtProperties.getRevocationFilterFalsePositiveRate());
+        active.forEach(rebuilt::put);
+        filter = rebuilt;
+        log.info("access token 무효화 필터 재생성: 유효 {}건, 만료 삭제 {}건", active.size(), deleted);
+    }
+
+    private void rebuildSafely() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            // 기존 필터를 그대로 쓰다가 다음 주기에 다시 시도한다
+            log.warn("access token 무효화 필터 재생성 실패: {}", e.getMessage());
+        }
+    }
+}
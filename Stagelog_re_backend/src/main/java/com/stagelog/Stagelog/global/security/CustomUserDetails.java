@@ -4,28 +4,46 @@ import com.stagelog.Stagelog.user.domain.User;
 import com.stagelog.Stagelog.user.domain.UserStatus;
 import java.util.Collection;
 import java.util.Collections;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+/**
+ * 인증된 사용자. 엔티티를 들고 있지 않으므로 서명된 JWT claims만으로도 만들 수 있다.
+ * principal 캐시에 오래 남으므로 비밀번호 해시는 담지 않는다 (로그인 검증은 {@code PasswordVerifier}가 한다).
+ */
 @Getter
-@RequiredArgsConstructor
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public class CustomUserDetails implements UserDetails {
 
-    private final User user;
+    private final Long userId;
+    private final String email;
+    private final String role;
+    private final UserStatus status;
+
+    public CustomUserDetails(User user) {
+        this(user.getId(), user.getEmail(), user.getRole().getValue(), user.getStatus());
+    }
+
+    /**
+     * access token claims로 만든 principal. 토큰은 ACTIVE 사용자에게만 발급되고,
+     * 이후의 정지·탈퇴는 토큰 버전 비교로 걸러지므로 ACTIVE로 둔다.
+     */
+    public static CustomUserDetails fromClaims(Long userId, String email, String role) {
+        return new CustomUserDetails(userId, email, role, UserStatus.ACTIVE);
+    }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return Collections.singletonList(
-                new SimpleGrantedAuthority(user.getRole().getValue())
-        );
+        return Collections.singletonList(new SimpleGrantedAuthority(role));
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return null;
     }
 
     /**
@@ -33,7 +51,7 @@ public class CustomUserDetails implements UserDetails {
      */
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return email;
     }
 
     @Override
@@ -43,7 +61,7 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public boolean isAccountNonLocked() {
-        return user.getStatus() != UserStatus.SUSPENDED;
+        return status != UserStatus.SUSPENDED;
     }
 
     @Override
@@ -53,6 +71,6 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return user.getStatus() == UserStatus.ACTIVE;
+        return status == UserStatus.ACTIVE;
     }
 }
@@ -1,8 +1,10 @@
 package com.stagelog.Stagelog.global.security;
 
+import com.stagelog.Stagelog.global.config.CacheConfig;
 import com.stagelog.Stagelog.user.domain.User;
 import com.stagelog.Stagelog.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -18,9 +20,11 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     /**
      * JWT subject에 email을 넣고 있으므로,
-     * 파라미터로 email 문자열이 들어옴
+     * 파라미터로 email 문자열이 들어옴.
+     * 결과는 email 기준으로 캐시하고, 사용자 변경 시 {@link UserPrincipalCacheInvalidator}가 비운다.
      */
     @Override
+    @Cacheable(cacheNames = CacheConfig.USER_PRINCIPAL, key = "#email")
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다. email=" + email));
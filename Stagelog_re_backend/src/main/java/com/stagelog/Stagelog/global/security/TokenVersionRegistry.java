@@ -0,0 +1,106 @@
+package com.stagelog.Stagelog.global.security;
+
+import com.stagelog.Stagelog.global.jwt.JwtProperties;
+import com.stagelog.Stagelog.global.jwt.ValidatedToken;
+import com.stagelog.Stagelog.user.event.UserTokenRevokedEvent;
+import com.stagelog.Stagelog.user.repository.UserRepository;
+import com.stagelog.Stagelog.user.repository.UserTokenVersion;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 사용자별 최소 유효 access token 버전. 토큰을 무효화한 적 있는 사용자만 들고 있으므로 크기가 작다.
+ * 같은 노드의 정지/탈퇴는 커밋 직후 이벤트로, 다른 노드의 변경은 주기적인 증분 조회로 반영한다.
+ * 따라서 다른 노드에서 정지/탈퇴된 사용자는 늦어도 revocation-sync-interval(+조회 시간) 뒤에는 이 노드에서 거절된다.
+ * principal 캐시 TTL과는 무관하며, 조회가 실패하면 다음 성공까지 늘어난다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenVersionRegistry {
+
+    // 노드 간 시계 차이와 커밋 지연을 덮기 위해 지난 조회 시점보다 이만큼 앞에서부터 다시 읽는다
+    private static final long SYNC_OVERLAP_SECONDS = 30;
+
+    private final UserRepository userRepository;
+    private final JwtProperties jwtProperties;
+
+    private final Map<Long, Integer> minVersions = new ConcurrentHashMap<>();
+    private ScheduledExecutorService syncExecutor;
+    private volatile LocalDateTime lastSyncedAt;
+
+    @PostConstruct
+    public void init() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        apply(userRepository.findRevokedTokenVersions());
+        lastSyncedAt = startedAt;
+
+        syncExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-version-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = jwtProperties.getRevocationSyncInterval();
+        syncExecutor.scheduleWithFixedDelay(this::sync, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (syncExecutor != null) {
+            syncExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * uid claim이 없는 이전 형식 토큰은 사용자 id를 알 수 없어 여기서는 통과시키고,
+     * DB에서 principal을 읽은 뒤 {@link #isCurrent(Long, int)}로 다시 확인한다.
+     */
+    public boolean isCurrent(ValidatedToken token) {
+        Long userId = token.getUserId();
+        if (userId == null) {
+            return true;
+        }
+        return isCurrent(userId, token.getTokenVersion());
+    }
+
+    /**
+     * ver claim이 없는 토큰은 버전 0으로 보므로, 한 번이라도 무효화된 사용자의 이전 형식 토큰은 거절된다.
+     */
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        return tokenVersion >= minVersions.getOrDefault(userId, 0);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTokenRevoked(UserTokenRevokedEvent event) {
+        minVersions.merge(event.userId(), event.tokenVersion(), Math::max);
+        log.info("access token 무효화: userId={}, version={}", event.userId(), event.tokenVersion());
+    }
+
+    void sync() {
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            apply(userRepository.findRevokedTokenVersionsUpdatedSince(
+                    lastSyncedAt.minusSeconds(SYNC_OVERLAP_SECONDS)));
+            lastSyncedAt = startedAt;
+        } catch (Exception e) {
+            // 다음 주기에 같은 구간부터 다시 읽는다
+            log.warn("토큰 버전 동기화 실패: {}", e.getMessage());
+        }
+    }
+
+    private void apply(List<UserTokenVersion> versions) {
+        versions.forEach(version -> minVersions.merge(version.getId(), version.getTokenVersion(), Math::max));
+    }
+}
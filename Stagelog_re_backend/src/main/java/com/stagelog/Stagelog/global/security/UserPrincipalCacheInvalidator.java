@@ -0,0 +1,92 @@
+package com.stagelog.Stagelog.global.security;
+
+import com.stagelog.Stagelog.global.config.CacheConfig;
+import com.stagelog.Stagelog.global.jwt.JwtProperties;
+import com.stagelog.Stagelog.user.event.UserChangedEvent;
+import com.stagelog.Stagelog.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * principal 캐시 무효화. 같은 노드의 변경은 커밋 직후 이벤트로 바로 비우고,
+ * 다른 노드의 변경은 {@link TokenVersionRegistry}와 같은 주기로 updated_at 증분 조회해 비운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserPrincipalCacheInvalidator {
+
+    // 노드 간 시계 차이와 커밋 지연을 덮기 위해 지난 조회 시점보다 이만큼 앞에서부터 다시 읽는다
+    private static final long SYNC_OVERLAP_SECONDS = 30;
+
+    private final CacheManager cacheManager;
+    private final UserRepository userRepository;
+    private final JwtProperties jwtProperties;
+    private final MeterRegistry meterRegistry;
+
+    private ScheduledExecutorService syncExecutor;
+    private volatile LocalDateTime lastSyncedAt;
+
+    @PostConstruct
+    public void init() {
+        lastSyncedAt = LocalDateTime.now();
+
+        syncExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-principal-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = jwtProperties.getRevocationSyncInterval();
+        syncExecutor.scheduleWithFixedDelay(this::sync, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (syncExecutor != null) {
+            syncExecutor.shutdownNow();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.email() != null) {
+            evict(List.of(event.email()), "local");
+        }
+    }
+
+    void sync() {
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            List<String> emails = userRepository.findEmailsUpdatedSince(
+                    lastSyncedAt.minusSeconds(SYNC_OVERLAP_SECONDS));
+            evict(emails, "peer");
+            lastSyncedAt = startedAt;
+        } catch (Exception e) {
+            // 다음 주기에 같은 구간부터 다시 읽는다
+            log.warn("principal 캐시 동기화 실패: {}", e.getMessage());
+        }
+    }
+
+    private void evict(List<String> emails, String source) {
+        Cache cache = cacheManager.getCache(CacheConfig.USER_PRINCIPAL);
+        if (cache == null || emails.isEmpty()) {
+            return;
+        }
+        emails.forEach(cache::evict);
+        meterRegistry.counter("user.principal.cache.invalidations", "source", source).increment(emails.size());
+        log.debug("principal 캐시 무효화: source={}, {}건", source, emails.size());
+    }
+}
@@ -0,0 +1,28 @@
+package com.stagelog.Stagelog.performance.batch.config;
+
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+
+@Configuration
+public class BatchLauncherConfig {
+
+    /**
+     * JobExecution을 만든 뒤 바로 반환하고 실제 실행은 batchJobTaskExecutor에서 진행한다.
+     * 기본 jobLauncher(동기)는 순서가 필요한 곳(예: 순차 수집 모드)에서 그대로 사용한다.
+     */
+    @Bean
+    public JobLauncher asyncJobLauncher(JobRepository jobRepository,
+                                        @Qualifier("batchJobTaskExecutor") TaskExecutor batchJobTaskExecutor)
+            throws Exception {
+        TaskExecutorJobLauncher jobLauncher = new TaskExecutorJobLauncher();
+        jobLauncher.setJobRepository(jobRepository);
+        jobLauncher.setTaskExecutor(batchJobTaskExecutor);
+        jobLauncher.afterPropertiesSet();
+        return jobLauncher;
+    }
+}
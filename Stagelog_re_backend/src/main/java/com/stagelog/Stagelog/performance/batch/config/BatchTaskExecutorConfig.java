@@ -0,0 +1,80 @@
+package com.stagelog.Stagelog.performance.batch.config;
+
+import com.stagelog.Stagelog.performance.client.KopisClientProperties;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 배치 전용 스레드 풀. 주입받는 곳은 같은 타입 빈이 여럿이므로 항상 {@code @Qualifier}로 이름을 지정한다.
+ */
+@Configuration
+public class BatchTaskExecutorConfig {
+
+    /**
+     * Executor 빈을 직접 등록하면 Boot의 applicationTaskExecutor 자동 설정이 물러날 수 있어 같은 이름으로 직접 만든다.
+     * MVC 비동기 요청 처리가 배치 풀이나 요청마다 스레드를 만드는 기본 executor로 가지 않고,
+     * spring.task.execution.* 설정도 그대로 적용된다.
+     */
+    @Lazy
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * 상세 조회용 고정 크기 풀.
+     * 큐가 가득 차면 호출 스레드(청크 스레드)가 직접 실행하므로 진행 중인 요청 수가 무한정 늘지 않는다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor kopisDetailTaskExecutor(KopisClientProperties kopisClientProperties) {
+        int concurrency = kopisClientProperties.getDetailConcurrency();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("kopis-detail-");
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(concurrency * 4);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 잡 자체를 실행하는 풀. 요청 스레드(Tomcat)와 스케줄러 스레드는 잡을 넘기고 바로 돌아간다.
+     * 같은 잡이 겹쳐 돌지 않도록 스레드는 적게 두고, 넘치는 실행 요청은 큐에서 기다린다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor batchJobTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("batch-job-");
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(10);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 월별 목록 파티션을 실행하는 풀. 파티션 수만큼 스레드를 늘리지 않고 listConcurrency개씩 돌린다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor kopisPartitionTaskExecutor(KopisClientProperties kopisClientProperties) {
+        int concurrency = kopisClientProperties.getListConcurrency();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("kopis-partition-");
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -0,0 +1,60 @@
+package com.stagelog.Stagelog.performance.batch.config;
+
+import com.stagelog.Stagelog.global.exception.IngestionItemException;
+import com.stagelog.Stagelog.global.exception.InvalidInputException;
+import com.stagelog.Stagelog.global.exception.KopisApiException;
+import java.time.DateTimeException;
+import org.springframework.batch.core.step.skip.SkipLimitExceededException;
+import org.springframework.batch.core.step.skip.SkipPolicy;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.web.client.RestClientResponseException;
+
+/**
+ * 특정 공연 한 건의 데이터 때문에 난 오류만 건너뛴다.
+ *
+ * <ul>
+ *     <li>스킵: 날짜 파싱 실패, 잘못된 값, 컬럼 길이·제약 위반, 공연 한 건의 상세 조회에 대한 KOPIS 4xx 응답</li>
+ *     <li>스킵하지 않음: KOPIS 장애(재시도 대상 오류, 서킷 차단), 목록 조회 실패 등 다른 공연에도 똑같이 날 오류
+ *     - 스텝을 실패시켜 재시작으로 이어 받는다</li>
+ * </ul>
+ * 한 스텝에서 {@code skipLimit}건을 넘게 건너뛰면 데이터가 아니라 코드·설정 문제로 보고 스텝을 실패시킨다.
+ */
+class IngestionSkipPolicy implements SkipPolicy {
+
+    private final long skipLimit;
+
+    IngestionSkipPolicy(long skipLimit) {
+        this.skipLimit = skipLimit;
+    }
+
+    @Override
+    public boolean shouldSkip(Throwable t, long skipCount) throws SkipLimitExceededException {
+        if (!isItemFailure(t)) {
+            return false;
+        }
+        if (skipCount >= skipLimit) {
+            throw new SkipLimitExceededException(skipLimit, t);
+        }
+        return true;
+    }
+
+    static boolean isItemFailure(Throwable t) {
+        Throwable cause = t;
+        boolean itemScoped = false;
+        while (cause instanceof IngestionItemException && cause.getCause() != null) {
+            cause = cause.getCause();
+            itemScoped = true;
+        }
+
+        if (cause instanceof KopisApiException kopisApiException) {
+            // 공연 한 건을 조회하다 난 4xx만 해당 공연의 문제 (목록 조회 4xx는 같은 페이지를 반복해서 실패한다)
+            return itemScoped
+                    && !kopisApiException.isRetryable()
+                    && kopisApiException.getCause() instanceof RestClientResponseException;
+        }
+        return cause instanceof DataIntegrityViolationException
+                || cause instanceof DateTimeException
+                || cause instanceof IllegalArgumentException
+                || cause instanceof InvalidInputException;
+    }
+}
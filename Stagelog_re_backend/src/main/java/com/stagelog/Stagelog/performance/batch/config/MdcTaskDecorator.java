@@ -0,0 +1,32 @@
+package com.stagelog.Stagelog.performance.batch.config;
+
+import java.util.Map;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * 작업을 넘긴 스레드의 MDC(jobName, stepName 등)를 실행 스레드로 복사한다.
+ * 파티션·상세 조회 스레드의 로그와 메트릭 태그가 어느 잡/스텝의 것인지 남기기 위함.
+ */
+class MdcTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            if (context != null) {
+                MDC.setContextMap(context);
+            }
+            try {
+                runnable.run();
+            } finally {
+                if (previous != null) {
+                    MDC.setContextMap(previous);
+                } else {
+                    MDC.clear();
+                }
+            }
+        };
+    }
+}
@@ -14,14 +14,29 @@ import org.springframework.context.annotation.Configuration;
 public class PerformanceJobConfig {
 
     private final JobRepository jobRepository;
-    private final Step performanceFetchStep;
+    private final Step performanceFetchManagerStep;
     private final Step performanceDetailStep;
+    private final Step performanceIngestManagerStep;
+    private final Step ingestionDeadLetterReplayStep;
     private final BatchJobMdcListener batchJobMdcListener;
 
     @Bean
     public Job performanceFetchJob() {
         return new JobBuilder("performanceFetchJob", jobRepository)
-                .start(performanceFetchStep)
+                .start(performanceFetchManagerStep)
+                .listener(batchJobMdcListener)
+                .build();
+    }
+
+    /**
+     * 목록과 신규 공연 상세를 한 흐름으로 수집한다.
+     * 마지막 상세 스텝은 기존 공연 중 아직 상세가 없는 행(이전 실패분 등)만 채운다.
+     */
+    @Bean
+    public Job performanceIngestJob() {
+        return new JobBuilder("performanceIngestJob", jobRepository)
+                .start(performanceIngestManagerStep)
+                .next(performanceDetailStep)
                 .listener(batchJobMdcListener)
                 .build();
     }
@@ -33,4 +48,15 @@ public class PerformanceJobConfig {
                 .listener(batchJobMdcListener)
                 .build();
     }
+
+    /**
+     * 수집 중 건너뛴 공연(ingestion_dead_letter)만 다시 처리한다. 원인을 고친 뒤 관리자 API로 실행한다.
+     */
+    @Bean
+    public Job ingestionDeadLetterReplayJob() {
+        return new JobBuilder("ingestionDeadLetterReplayJob", jobRepository)
+                .start(ingestionDeadLetterReplayStep)
+                .listener(batchJobMdcListener)
+                .build();
+    }
 }
@@ -1,24 +1,46 @@
 package com.stagelog.Stagelog.performance.batch.config;
 
+import com.stagelog.Stagelog.performance.batch.listener.BatchChunkMetricsListener;
 import com.stagelog.Stagelog.performance.batch.listener.BatchStepMdcListener;
+import com.stagelog.Stagelog.performance.batch.listener.IngestionDeadLetterListener;
+import com.stagelog.Stagelog.performance.batch.listener.KopisWindowStatListener;
+import com.stagelog.Stagelog.performance.batch.partition.KopisWindowPartitioner;
+import com.stagelog.Stagelog.performance.batch.partition.KopisWindowPlanner;
+import com.stagelog.Stagelog.performance.batch.processor.IngestionDeadLetterReplayProcessor;
 import com.stagelog.Stagelog.performance.batch.processor.PerformanceDetailItemProcessor;
+import com.stagelog.Stagelog.performance.batch.processor.PerformanceIngestItemProcessor;
 import com.stagelog.Stagelog.performance.batch.processor.PerformanceItemProcessor;
+import com.stagelog.Stagelog.performance.batch.reader.IngestionDeadLetterItemReader;
+import com.stagelog.Stagelog.performance.batch.reader.PerformanceDetailItemReader;
 import com.stagelog.Stagelog.performance.batch.reader.PerformanceItemReader;
+import com.stagelog.Stagelog.performance.batch.writer.IngestionDeadLetterReplayWriter;
+import com.stagelog.Stagelog.performance.batch.writer.PerformanceIngestWriter;
 import com.stagelog.Stagelog.performance.batch.writer.PerformanceItemWriter;
+import com.stagelog.Stagelog.performance.client.KopisClientProperties;
+import com.stagelog.Stagelog.performance.domain.IngestionDeadLetter;
 import com.stagelog.Stagelog.performance.domain.KopisPerformance;
 import com.stagelog.Stagelog.performance.dto.KopisPerformanceListItem;
-import com.stagelog.Stagelog.performance.repository.KopisPerformanceRepository;
+import com.stagelog.Stagelog.performance.service.KopisWindowStatService;
+import java.time.LocalDate;
 import java.util.Map;
+import java.util.concurrent.Future;
 import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ItemReadListener;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.FaultTolerantStepBuilder;
+import org.springframework.batch.core.step.builder.SimpleStepBuilder;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.item.data.RepositoryItemReader;
-import org.springframework.batch.item.data.builder.RepositoryItemReaderBuilder;
+import org.springframework.batch.integration.async.AsyncItemProcessor;
+import org.springframework.batch.integration.async.AsyncItemWriter;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.domain.Sort;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.TransientDataAccessException;
 import org.springframework.transaction.PlatformTransactionManager;
 
 @Configuration
@@ -29,49 +51,173 @@ public class PerformanceStepConfig {
     private final PlatformTransactionManager transactionManager;
     private final PerformanceItemReader performanceItemReader;
     private final PerformanceItemProcessor performanceItemProcessor;
-    private final PerformanceItemWriter performanceItemWriter;
-
-    private final KopisPerformanceRepository kopisPerformanceRepository;
+    private final PerformanceIngestWriter performanceIngestWriter;
     private final BatchStepMdcListener batchStepMdcListener;
+    private final BatchChunkMetricsListener batchChunkMetricsListener;
+    private final KopisWindowStatListener kopisWindowStatListener;
+    private final IngestionDeadLetterListener ingestionDeadLetterListener;
 
     private static final int CHUNK_SIZE = 100;
-    private static final int DETAIL_CHUNK_SIZE = 30;
+    private static final int DETAIL_CHUNK_SIZE = PerformanceDetailItemReader.PAGE_SIZE;
+    private static final int REPLAY_CHUNK_SIZE = IngestionDeadLetterItemReader.PAGE_SIZE;
+    private static final int RETRY_LIMIT = 3;
+
+    // 한 스텝에서 이보다 많이 건너뛰면 데이터가 아니라 코드·설정 문제로 보고 실패시킨다
+    @Value("${app.batch.skip-limit:100}")
+    private long skipLimit;
 
+    /**
+     * 수집 기간을 장르 × 조회 구간 파티션으로 나눠 performanceFetchStep을 병렬 실행한다.
+     * 동시 실행 수는 kopisPartitionTaskExecutor, 호출량은 공유 KopisRateLimiter가 제한한다.
+     */
     @Bean
-    public Step performanceFetchStep() {
-        return new StepBuilder("performanceFetchStep", jobRepository)
-                .<KopisPerformanceListItem, KopisPerformance>chunk(CHUNK_SIZE, transactionManager)
+    public Step performanceFetchManagerStep(
+            KopisWindowPartitioner performancePeriodPartitioner,
+            @Qualifier("kopisPartitionTaskExecutor") TaskExecutor kopisPartitionTaskExecutor
+    ) {
+        return new StepBuilder("performanceFetchManagerStep", jobRepository)
+                .partitioner("performanceFetchStep", performancePeriodPartitioner)
+                .step(performanceFetchStep())
+                .taskExecutor(kopisPartitionTaskExecutor)
+                .listener(batchStepMdcListener)
+                .build();
+    }
+
+    /**
+     * 파이프라인 수집: 목록 파티션이 신규 공연의 상세까지 받아 한 번에 저장한다.
+     * 파티션 구성과 동시 실행 수는 performanceFetchManagerStep과 같다.
+     */
+    @Bean
+    public Step performanceIngestManagerStep(
+            KopisWindowPartitioner performancePeriodPartitioner,
+            @Qualifier("kopisPartitionTaskExecutor") TaskExecutor kopisPartitionTaskExecutor,
+            PerformanceIngestItemProcessor performanceIngestItemProcessor
+    ) {
+        Step ingestStep = faultTolerant(new StepBuilder("performanceIngestStep", jobRepository)
+                .<KopisPerformanceListItem, Future<KopisPerformance>>chunk(CHUNK_SIZE, transactionManager)
                 .reader(performanceItemReader)
-                .processor(performanceItemProcessor)
-                .writer(performanceItemWriter)
+                .processor(performanceIngestItemProcessor)
+                .writer(asyncWriter(performanceIngestWriter))
+                .listener((ItemReadListener<KopisPerformanceListItem>) performanceItemProcessor))
+                .listener(batchStepMdcListener)
+                .listener(batchChunkMetricsListener)
+                .listener(kopisWindowStatListener)
+                .build();
+
+        return new StepBuilder("performanceIngestManagerStep", jobRepository)
+                .partitioner("performanceIngestStep", performancePeriodPartitioner)
+                .step(ingestStep)
+                .taskExecutor(kopisPartitionTaskExecutor)
                 .listener(batchStepMdcListener)
                 .build();
     }
 
+    /**
+     * 장르마다 지난 수집의 월별 행 수를 불러와 조회 구간을 정한다.
+     * app.kopis.window.adaptive=false면 기록을 무시하고 한 달 단위로 나눈다.
+     */
     @Bean
     @StepScope
-    public RepositoryItemReader<KopisPerformance> performanceDetailReader() {
-        return new RepositoryItemReaderBuilder<KopisPerformance>()
-                .name("performanceDetailReader")
-                .repository(kopisPerformanceRepository)
-                .methodName("findByHasDetailFalse") // Repository에 추가한 메소드명
-                .pageSize(DETAIL_CHUNK_SIZE)
-                .sorts(Map.of("id", Sort.Direction.ASC))
+    public KopisWindowPartitioner performancePeriodPartitioner(
+            @Value("#{jobParameters['startDate']}") String startDate,
+            KopisClientProperties kopisClientProperties,
+            KopisWindowStatService kopisWindowStatService
+    ) {
+        LocalDate start = KopisWindowPartitioner.resolveStartDate(startDate);
+        LocalDate end = KopisWindowPartitioner.defaultSearchEndDate();
+        KopisClientProperties.Window window = kopisClientProperties.getWindow();
+
+        return new KopisWindowPartitioner(
+                start,
+                end,
+                kopisClientProperties.getCategories(),
+                new KopisWindowPlanner(kopisClientProperties.getRowsPerPage(), window),
+                category -> window.isAdaptive()
+                        ? kopisWindowStatService.findMonthEstimates(category, start, end)
+                        : Map.of()
+        );
+    }
+
+    @Bean
+    public Step performanceFetchStep() {
+        return faultTolerant(new StepBuilder("performanceFetchStep", jobRepository)
+                .<KopisPerformanceListItem, KopisPerformance>chunk(CHUNK_SIZE, transactionManager)
+                .reader(performanceItemReader)
+                .processor(performanceItemProcessor)
+                .writer(performanceIngestWriter)
+                .listener((ItemReadListener<KopisPerformanceListItem>) performanceItemProcessor))
+                .listener(batchStepMdcListener)
+                .listener(batchChunkMetricsListener)
+                .listener(kopisWindowStatListener)
                 .build();
     }
 
+    /**
+     * 청크의 상세 조회를 kopisDetailTaskExecutor에서 병렬로 수행한다.
+     * Processor는 Future를 반환하고, Writer가 청크 전체의 응답을 기다린 뒤 한 번에 저장한다.
+     */
     @Bean
     public Step performanceDetailStep(
-            RepositoryItemReader<KopisPerformance> performanceDetailReader,
+            PerformanceDetailItemReader performanceDetailItemReader,
             PerformanceDetailItemProcessor performanceDetailProcessor, // 위에서 만든 Processor 주입
-            PerformanceItemWriter performanceItemWriter // 기존 Writer 재사용 (saveAll은 update도 됨)
+            PerformanceItemWriter performanceItemWriter, // 기존 Writer 재사용 (saveAll은 update도 됨)
+            @Qualifier("kopisDetailTaskExecutor") TaskExecutor kopisDetailTaskExecutor
     ) {
-        return new StepBuilder("performanceDetailStep", jobRepository)
-                .<KopisPerformance, KopisPerformance>chunk(DETAIL_CHUNK_SIZE, transactionManager)
-                .reader(performanceDetailReader)
-                .processor(performanceDetailProcessor)
-                .writer(performanceItemWriter)
+        return faultTolerant(new StepBuilder("performanceDetailStep", jobRepository)
+                .<KopisPerformance, Future<KopisPerformance>>chunk(DETAIL_CHUNK_SIZE, transactionManager)
+                .reader(performanceDetailItemReader)
+                .processor(asyncDetailProcessor(performanceDetailProcessor, kopisDetailTaskExecutor))
+                .writer(asyncWriter(performanceItemWriter)))
                 .listener(batchStepMdcListener)
+                .listener(batchChunkMetricsListener)
                 .build();
     }
+
+    /**
+     * dead letter로 남은 공연만 KOPIS에서 다시 받아 저장한다. 다시 실패하면 같은 항목의 시도 횟수가 늘어난다.
+     */
+    @Bean
+    public Step ingestionDeadLetterReplayStep(
+            IngestionDeadLetterItemReader ingestionDeadLetterItemReader,
+            IngestionDeadLetterReplayProcessor ingestionDeadLetterReplayProcessor,
+            IngestionDeadLetterReplayWriter ingestionDeadLetterReplayWriter
+    ) {
+        return faultTolerant(new StepBuilder("ingestionDeadLetterReplayStep", jobRepository)
+                .<IngestionDeadLetter, IngestionDeadLetterReplayProcessor.Replay>chunk(REPLAY_CHUNK_SIZE, transactionManager)
+                .reader(ingestionDeadLetterItemReader)
+                .processor(ingestionDeadLetterReplayProcessor)
+                .writer(ingestionDeadLetterReplayWriter))
+                .listener(batchStepMdcListener)
+                .build();
+    }
+
+    /**
+     * 공연 한 건의 데이터 오류는 건너뛰고 dead letter로 남긴다 ({@link IngestionSkipPolicy}).
+     * 동시 upsert의 교착 등 일시적 DB 오류는 청크를 다시 시도한다.
+     * 롤백 후 다시 처리할 때 Processor 결과를 재사용해 상세 조회를 반복하지 않는다 (processorNonTransactional).
+     */
+    private <I, O> FaultTolerantStepBuilder<I, O> faultTolerant(SimpleStepBuilder<I, O> builder) {
+        return builder.faultTolerant()
+                .skipPolicy(new IngestionSkipPolicy(skipLimit))
+                .retry(TransientDataAccessException.class)
+                .retryLimit(RETRY_LIMIT)
+                .processorNonTransactional()
+                .listener(ingestionDeadLetterListener);
+    }
+
+    private AsyncItemProcessor<KopisPerformance, KopisPerformance> asyncDetailProcessor(
+            PerformanceDetailItemProcessor delegate,
+            TaskExecutor taskExecutor
+    ) {
+        AsyncItemProcessor<KopisPerformance, KopisPerformance> processor = new AsyncItemProcessor<>();
+        processor.setDelegate(delegate);
+        processor.setTaskExecutor(taskExecutor);
+        return processor;
+    }
+
+    private AsyncItemWriter<KopisPerformance> asyncWriter(ItemWriter<KopisPerformance> delegate) {
+        AsyncItemWriter<KopisPerformance> writer = new AsyncItemWriter<>();
+        writer.setDelegate(delegate);
+        return writer;
+    }
 }
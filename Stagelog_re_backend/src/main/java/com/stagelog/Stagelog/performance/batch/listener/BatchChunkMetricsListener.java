@@ -0,0 +1,41 @@
+package com.stagelog.Stagelog.performance.batch.listener;
+
+import com.stagelog.Stagelog.performance.metrics.IngestionMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * 청크 하나가 커밋(또는 롤백)되기까지 걸린 시간을 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BatchChunkMetricsListener implements ChunkListener {
+
+    private static final String CHUNK_START_NANOS = "batchChunkMetricsListener.startNanos";
+
+    private final IngestionMetrics ingestionMetrics;
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        context.setAttribute(CHUNK_START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        record(context, true);
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        record(context, false);
+    }
+
+    private void record(ChunkContext context, boolean success) {
+        Object startNanos = context.removeAttribute(CHUNK_START_NANOS);
+        if (startNanos instanceof Long start) {
+            ingestionMetrics.recordChunk(start, success);
+        }
+    }
+}
@@ -1,16 +1,24 @@
 package com.stagelog.Stagelog.performance.batch.listener;
 
+import com.stagelog.Stagelog.performance.metrics.IngestionMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.stereotype.Component;
 
+@Slf4j
 @Component
+@RequiredArgsConstructor
 public class BatchStepMdcListener implements StepExecutionListener {
 
     private static final String MDC_STEP_NAME = "stepName";
     private static final String MDC_STEP_EXECUTION_ID = "stepExecutionId";
+    private static final String MANAGER_STEP_SUFFIX = "ManagerStep";
+
+    private final IngestionMetrics ingestionMetrics;
 
     @Override
     public void beforeStep(StepExecution stepExecution) {
@@ -20,6 +28,15 @@ public class BatchStepMdcListener implements StepExecutionListener {
 
     @Override
     public ExitStatus afterStep(StepExecution stepExecution) {
+        // filterCount: 변경이 없어 쓰기를 생략한 건수
+        log.info("스텝 종료: read={}, write={}, filter={}, skip={}",
+                stepExecution.getReadCount(), stepExecution.getWriteCount(),
+                stepExecution.getFilterCount(), stepExecution.getSkipCount());
+        // 파티션 매니저 스텝의 카운트는 워커 합계라 다시 세지 않는다
+        if (!stepExecution.getStepName().endsWith(MANAGER_STEP_SUFFIX)) {
+            ingestionMetrics.countItems("filtered", stepExecution.getFilterCount());
+            ingestionMetrics.countItems("skipped", stepExecution.getSkipCount());
+        }
         MDC.remove(MDC_STEP_NAME);
         MDC.remove(MDC_STEP_EXECUTION_ID);
         return stepExecution.getExitStatus();
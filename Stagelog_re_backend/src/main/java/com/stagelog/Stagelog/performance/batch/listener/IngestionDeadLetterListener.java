@@ -0,0 +1,107 @@
+package com.stagelog.Stagelog.performance.batch.listener;
+
+import com.stagelog.Stagelog.global.exception.IngestionItemException;
+import com.stagelog.Stagelog.performance.batch.processor.IngestionDeadLetterReplayProcessor;
+import com.stagelog.Stagelog.performance.domain.IngestionDeadLetter;
+import com.stagelog.Stagelog.performance.domain.IngestionDeadLetter.Stage;
+import com.stagelog.Stagelog.performance.domain.KopisPerformance;
+import com.stagelog.Stagelog.performance.dto.KopisPerformanceListItem;
+import com.stagelog.Stagelog.performance.service.IngestionDeadLetterService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * 건너뛴 아이템을 dead letter로 남긴다.
+ * 비동기 스텝은 아이템이 Future라서 실패한 경우 원래 공연을 알 수 없으므로 {@link IngestionItemException}의 mt20id를 쓴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class IngestionDeadLetterListener implements SkipListener<Object, Object> {
+
+    private final IngestionDeadLetterService ingestionDeadLetterService;
+
+    @Override
+    public void onSkipInRead(Throwable t) {
+        record(null, Stage.READ, t);
+    }
+
+    @Override
+    public void onSkipInProcess(Object item, Throwable t) {
+        record(item, Stage.PROCESS, t);
+    }
+
+    @Override
+    public void onSkipInWrite(Object item, Throwable t) {
+        // 비동기 Processor에서 난 오류는 Writer가 Future를 꺼낼 때 드러난다
+        Stage stage = findItemException(t) != null ? Stage.PROCESS : Stage.WRITE;
+        record(item, stage, t);
+    }
+
+    private void record(Object item, Stage stage, Throwable t) {
+        if (item instanceof IngestionDeadLetterReplayProcessor.Replay replay) {
+            // 재처리 중 다시 실패하면 원래 항목의 시도 횟수를 올린다
+            stage = replay.deadLetter().getStage();
+        } else if (item instanceof IngestionDeadLetter deadLetter) {
+            stage = deadLetter.getStage();
+        }
+
+        StepExecution stepExecution = currentStepExecution();
+        ingestionDeadLetterService.record(
+                resolveKopisId(item, t),
+                stage,
+                stepExecution == null ? null : stepExecution.getStepName(),
+                stepExecution == null ? null : stepExecution.getJobExecutionId(),
+                t
+        );
+    }
+
+    private String resolveKopisId(Object item, Throwable t) {
+        IngestionItemException itemException = findItemException(t);
+        if (itemException != null) {
+            return itemException.getKopisId();
+        }
+        if (item instanceof KopisPerformanceListItem listItem) {
+            return listItem.getMt20id();
+        }
+        if (item instanceof KopisPerformance performance) {
+            return performance.getKopisId();
+        }
+        if (item instanceof IngestionDeadLetterReplayProcessor.Replay replay) {
+            return replay.deadLetter().getKopisId();
+        }
+        if (item instanceof IngestionDeadLetter deadLetter) {
+            return deadLetter.getKopisId();
+        }
+        if (item instanceof Future<?> future && future.isDone()) {
+            // 처리는 끝났고 저장에서 실패한 경우
+            try {
+                return resolveKopisId(future.get(), t);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException ignored) {
+                // 처리 실패는 위에서 IngestionItemException으로 걸러진다
+            }
+        }
+        return null;
+    }
+
+    private static IngestionItemException findItemException(Throwable t) {
+        for (Throwable cause = t; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IngestionItemException itemException) {
+                return itemException;
+            }
+        }
+        return null;
+    }
+
+    private static StepExecution currentStepExecution() {
+        StepContext context = StepSynchronizationManager.getContext();
+        return context == null ? null : context.getStepExecution();
+    }
+}
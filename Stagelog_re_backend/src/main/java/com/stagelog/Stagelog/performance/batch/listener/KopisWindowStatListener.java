@@ -0,0 +1,59 @@
+package com.stagelog.Stagelog.performance.batch.listener;
+
+import com.stagelog.Stagelog.performance.batch.partition.KopisWindowPartitioner;
+import com.stagelog.Stagelog.performance.service.KopisWindowStatService;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * 목록 파티션이 끝나면 그 구간에서 읽은 행 수를 기록해 다음 수집의 구간 계획에 쓴다.
+ * 재시작된 파티션은 재시작 이후 읽은 건수만 알 수 있어 기록하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KopisWindowStatListener implements StepExecutionListener {
+
+    private static final String READER_CHECKPOINT_KEY = "performanceItemReader.windowStart";
+    private static final String RESTARTED_KEY = "kopisWindowStatListener.restarted";
+
+    private final KopisWindowStatService kopisWindowStatService;
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        // 재시작 여부는 Reader가 체크포인트를 복원하기 전에 판단해야 한다
+        ExecutionContext context = stepExecution.getExecutionContext();
+        context.put(RESTARTED_KEY, context.containsKey(READER_CHECKPOINT_KEY));
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        ExecutionContext context = stepExecution.getExecutionContext();
+        if (stepExecution.getStatus() != BatchStatus.COMPLETED
+                || Boolean.TRUE.equals(context.get(RESTARTED_KEY))
+                || !context.containsKey(KopisWindowPartitioner.CATEGORY_KEY)) {
+            return stepExecution.getExitStatus();
+        }
+
+        try {
+            kopisWindowStatService.recordWindow(
+                    stepExecution.getJobExecutionId(),
+                    context.getString(KopisWindowPartitioner.CATEGORY_KEY),
+                    LocalDate.parse(context.getString(KopisWindowPartitioner.PERIOD_START_KEY)),
+                    LocalDate.parse(context.getString(KopisWindowPartitioner.PERIOD_END_KEY)),
+                    stepExecution.getReadCount()
+            );
+        } catch (RuntimeException e) {
+            // 통계는 다음 계획의 참고용이라 기록 실패로 스텝을 실패시키지 않는다
+            log.warn("구간 통계 기록 실패: {}", stepExecution.getStepName(), e);
+        }
+        return stepExecution.getExitStatus();
+    }
+}
@@ -0,0 +1,91 @@
+package com.stagelog.Stagelog.performance.batch.partition;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * 수집 기간을 장르 코드 × 조회 구간 파티션으로 나눈다.
+ * 구간은 {@link KopisWindowPlanner}가 지난 수집의 월별 행 수로 정한다 (기록이 없으면 한 달 단위).
+ * 각 파티션의 ExecutionContext에 장르 코드와 조회 시작일·종료일을 넣어 두면 워커 스텝의 Reader가 그 구간만 조회한다.
+ * 장르가 늘어도 파티션이 같은 풀에서 병렬로 돌기 때문에 수집 시간은 호출 한도가 허용하는 만큼만 늘어난다.
+ */
+public class KopisWindowPartitioner implements Partitioner {
+
+    public static final String PERIOD_START_KEY = "periodStart";
+    public static final String PERIOD_END_KEY = "periodEnd";
+    public static final String CATEGORY_KEY = "category";
+
+    public static final LocalDate DEFAULT_START_DATE = LocalDate.of(2024, 1, 1);
+    private static final int SEARCH_MONTHS_AHEAD = 12;
+    private static final DateTimeFormatter PARTITION_NAME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final LocalDate startDate;
+    private final LocalDate searchEndDate;
+    private final List<String> categories;
+    private final KopisWindowPlanner planner;
+    private final Function<String, Map<LocalDate, Long>> monthEstimates;
+
+    /**
+     * @param monthEstimates 장르 코드 → (월 시작일 → 추정 행 수)
+     */
+    public KopisWindowPartitioner(
+            LocalDate startDate,
+            LocalDate searchEndDate,
+            List<String> categories,
+            KopisWindowPlanner planner,
+            Function<String, Map<LocalDate, Long>> monthEstimates
+    ) {
+        if (startDate.isAfter(searchEndDate)) {
+            throw new IllegalArgumentException("startDate must not be after searchEndDate.");
+        }
+        if (categories == null || categories.isEmpty()) {
+            throw new IllegalArgumentException("categories must not be empty.");
+        }
+        this.startDate = startDate;
+        this.searchEndDate = searchEndDate;
+        this.categories = List.copyOf(categories);
+        this.planner = planner;
+        this.monthEstimates = monthEstimates;
+    }
+
+    /**
+     * 잡 파라미터의 시작일(yyyy-MM-dd)이 없으면 {@link #DEFAULT_START_DATE}부터 수집한다.
+     */
+    public static LocalDate resolveStartDate(String startDate) {
+        return (startDate == null || startDate.isEmpty())
+                ? DEFAULT_START_DATE
+                : LocalDate.parse(startDate, DateTimeFormatter.ISO_LOCAL_DATE);
+    }
+
+    /**
+     * 오늘 기준 12개월 뒤까지를 수집 기간으로 잡는다.
+     */
+    public static LocalDate defaultSearchEndDate() {
+        return LocalDate.now().plusMonths(SEARCH_MONTHS_AHEAD);
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+
+        for (String category : categories) {
+            List<KopisWindowPlanner.Window> windows =
+                    planner.plan(startDate, searchEndDate, monthEstimates.apply(category));
+
+            for (KopisWindowPlanner.Window window : windows) {
+                ExecutionContext context = new ExecutionContext();
+                context.putString(CATEGORY_KEY, category);
+                context.putString(PERIOD_START_KEY, window.start().toString());
+                context.putString(PERIOD_END_KEY, window.end().toString());
+                partitions.put("window-" + category + "-" + window.start().format(PARTITION_NAME_FORMATTER), context);
+            }
+        }
+        return partitions;
+    }
+}
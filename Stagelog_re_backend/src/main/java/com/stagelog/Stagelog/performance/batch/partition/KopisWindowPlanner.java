@@ -0,0 +1,103 @@
+package com.stagelog.Stagelog.performance.batch.partition;
+
+import com.stagelog.Stagelog.performance.client.KopisClientProperties;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 지난 수집의 월별 행 수 추정치로 KOPIS 목록 조회 구간을 정한다.
+ *
+ * <ul>
+ *     <li>추정치가 없는 달: 한 달 구간 (기존 동작)</li>
+ *     <li>드문 달: 합쳐도 한 페이지에 들어가는 만큼 이어 붙여 한 번의 호출로 조회</li>
+ *     <li>조밀한 달: 며칠 단위로 나눠 한 파티션이 수집 시간을 혼자 끌지 않게 함</li>
+ * </ul>
+ * 기간이 겹치는 공연은 구간마다 한 번씩 내려오므로, 구간을 합치면 호출 수가 줄고 나누면 조금 늘어난다.
+ * 그래서 나누기는 한 달 분량이 {@code splitPages} 페이지를 넘을 때만 한다.
+ */
+public class KopisWindowPlanner {
+
+    private final int rowsPerPage;
+    private final int maxMergedMonths;
+    private final int splitPages;
+    private final int maxSplits;
+
+    public KopisWindowPlanner(int rowsPerPage, KopisClientProperties.Window window) {
+        this.rowsPerPage = rowsPerPage;
+        this.maxMergedMonths = window.getMaxMergedMonths();
+        this.splitPages = window.getSplitPages();
+        this.maxSplits = window.getMaxSplits();
+    }
+
+    public record Window(LocalDate start, LocalDate end) {
+    }
+
+    /**
+     * @param monthEstimates 월 시작일(1일) → 추정 행 수
+     */
+    public List<Window> plan(LocalDate start, LocalDate end, Map<LocalDate, Long> monthEstimates) {
+        List<Window> windows = new ArrayList<>();
+
+        LocalDate mergeStart = null;
+        LocalDate mergeEnd = null;
+        long mergedRows = 0;
+        int mergedMonths = 0;
+
+        LocalDate periodStart = start;
+        while (!periodStart.isAfter(end)) {
+            LocalDate periodEnd = min(periodStart.plusMonths(1).minusDays(1), end);
+            Long estimate = monthEstimates.get(periodStart.withDayOfMonth(1));
+
+            boolean mergeable = estimate != null && estimate < rowsPerPage;
+            if (mergeStart != null
+                    && (!mergeable || mergedRows + estimate > rowsPerPage || mergedMonths >= maxMergedMonths)) {
+                windows.add(new Window(mergeStart, mergeEnd));
+                mergeStart = null;
+            }
+
+            if (mergeable) {
+                if (mergeStart == null) {
+                    mergeStart = periodStart;
+                    mergedRows = 0;
+                    mergedMonths = 0;
+                }
+                mergeEnd = periodEnd;
+                mergedRows += estimate;
+                mergedMonths++;
+            } else if (estimate != null && estimate > (long) rowsPerPage * splitPages) {
+                windows.addAll(split(periodStart, periodEnd, estimate));
+            } else {
+                windows.add(new Window(periodStart, periodEnd));
+            }
+
+            periodStart = periodStart.plusMonths(1);
+        }
+
+        if (mergeStart != null) {
+            windows.add(new Window(mergeStart, mergeEnd));
+        }
+        return windows;
+    }
+
+    private List<Window> split(LocalDate start, LocalDate end, long estimate) {
+        long rowsPerWindow = (long) rowsPerPage * splitPages;
+        int parts = (int) Math.min(maxSplits, (estimate + rowsPerWindow - 1) / rowsPerWindow);
+        long days = ChronoUnit.DAYS.between(start, end) + 1;
+
+        List<Window> windows = new ArrayList<>();
+        LocalDate partStart = start;
+        for (int i = 1; i <= parts; i++) {
+            LocalDate partEnd = i == parts ? end : start.plusDays(days * i / parts - 1);
+            windows.add(new Window(partStart, partEnd));
+            partStart = partEnd.plusDays(1);
+        }
+        return windows;
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? b : a;
+    }
+}
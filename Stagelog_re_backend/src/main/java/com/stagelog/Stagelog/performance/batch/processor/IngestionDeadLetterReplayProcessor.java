@@ -0,0 +1,71 @@
+package com.stagelog.Stagelog.performance.batch.processor;
+
+import com.stagelog.Stagelog.global.exception.IngestionItemException;
+import com.stagelog.Stagelog.performance.client.KopisPerformanceDataProvider;
+import com.stagelog.Stagelog.performance.domain.IngestionDeadLetter;
+import com.stagelog.Stagelog.performance.domain.KopisPerformance;
+import com.stagelog.Stagelog.performance.dto.KopisPerformanceDetailItem;
+import com.stagelog.Stagelog.performance.repository.KopisPerformanceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * dead letter의 공연을 KOPIS 상세 API로 다시 받아 저장할 엔티티를 만든다.
+ * 목록 단계에서 실패한 공연은 목록 응답이 남아 있지 않지만, 상세 응답에 목록 필드가 모두 들어 있다.
+ * 새로 만든 행은 content_hash가 비어 있어 다음 목록 수집에서 목록 필드가 한 번 더 맞춰진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IngestionDeadLetterReplayProcessor
+        implements ItemProcessor<IngestionDeadLetter, IngestionDeadLetterReplayProcessor.Replay> {
+
+    private final KopisPerformanceRepository kopisPerformanceRepository;
+    private final KopisPerformanceDataProvider kopisPerformanceDataProvider;
+
+    /**
+     * @param performance 저장할 공연. KOPIS에서 사라진 신규 공연이면 null (항목만 처리 완료로 바꾼다)
+     */
+    public record Replay(IngestionDeadLetter deadLetter, KopisPerformance performance) {
+    }
+
+    @Override
+    public Replay process(IngestionDeadLetter deadLetter) {
+        String kopisId = deadLetter.getKopisId();
+        if (kopisId == null) {
+            log.warn("mt20id 없는 dead letter는 재처리할 수 없음: id={}", deadLetter.getId());
+            return null;
+        }
+
+        try {
+            KopisPerformanceDetailItem detail = kopisPerformanceDataProvider.fetchPerformanceDetail(kopisId);
+            KopisPerformance performance = kopisPerformanceRepository.findByKopisId(kopisId)
+                    .orElseGet(() -> detail == null ? null : newPerformance(detail));
+
+            if (performance != null) {
+                if (detail == null) {
+                    performance.handleNoDetail();
+                } else {
+                    performance.updateDetailInfo(detail);
+                }
+            }
+            return new Replay(deadLetter, performance);
+        } catch (RuntimeException e) {
+            throw new IngestionItemException(kopisId, e);
+        }
+    }
+
+    private KopisPerformance newPerformance(KopisPerformanceDetailItem detail) {
+        return KopisPerformance.builder()
+                .kopisId(detail.getMt20id())
+                .title(detail.getPrfnm())
+                .posterUrl(detail.getPoster())
+                .venue(detail.getFcltynm())
+                .status(detail.getPrfstate())
+                .startDate(detail.getStartDate())
+                .endDate(detail.getEndDate())
+                .build();
+    }
+}
@@ -1,7 +1,6 @@
 package com.stagelog.Stagelog.performance.batch.processor;
 
-import com.stagelog.Stagelog.global.exception.BatchProcessException;
-import com.stagelog.Stagelog.global.exception.ErrorCode;
+import com.stagelog.Stagelog.global.exception.IngestionItemException;
 import com.stagelog.Stagelog.performance.client.KopisPerformanceDataProvider;
 import com.stagelog.Stagelog.performance.domain.KopisPerformance;
 import com.stagelog.Stagelog.performance.dto.KopisPerformanceDetailItem;
@@ -10,19 +9,21 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.stereotype.Component;
 
+/**
+ * 상세 정보를 조회해 엔티티에 반영한다.
+ * 호출 한도는 {@code KopisRateLimiter}가 관리하므로 여러 스레드에서 동시에 호출해도 된다.
+ * {@code AsyncItemProcessor}에서 실행되므로 실패는 mt20id를 담은 {@link IngestionItemException}으로 감싸 던진다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class PerformanceDetailItemProcessor implements ItemProcessor<KopisPerformance, KopisPerformance> {
 
     private final KopisPerformanceDataProvider kopisPerformanceDataProvider;
-    private static final long RATE_LIMIT_DELAY_MS = 200;
 
     @Override
-    public KopisPerformance process(KopisPerformance item) throws Exception {
+    public KopisPerformance process(KopisPerformance item) {
         try {
-            Thread.sleep(RATE_LIMIT_DELAY_MS);
-
             KopisPerformanceDetailItem detailResponseDto = kopisPerformanceDataProvider.fetchPerformanceDetail(
                     item.getKopisId());
 
@@ -34,9 +35,8 @@ public class PerformanceDetailItemProcessor implements ItemProcessor<KopisPerfor
 
             item.updateDetailInfo(detailResponseDto);
             return item;
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new BatchProcessException(ErrorCode.BATCH_INTERRUPTED, e);
+        } catch (RuntimeException e) {
+            throw new IngestionItemException(item.getKopisId(), e);
         }
     }
 }
@@ -0,0 +1,75 @@
+package com.stagelog.Stagelog.performance.batch.processor;
+
+import com.stagelog.Stagelog.global.exception.IngestionItemException;
+import com.stagelog.Stagelog.performance.client.KopisPerformanceDataProvider;
+import com.stagelog.Stagelog.performance.domain.KopisPerformance;
+import com.stagelog.Stagelog.performance.dto.KopisPerformanceDetailItem;
+import com.stagelog.Stagelog.performance.dto.KopisPerformanceListItem;
+import jakarta.annotation.Nonnull;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 목록 → 상세 파이프라인 수집용 Processor.
+ *
+ * <p>변경 감지는 청크 스레드에서 {@link PerformanceItemProcessor}로 바로 하고,
+ * 테이블에 없는 mt20id만 상세 조회를 {@code kopisDetailTaskExecutor}에 넘긴다.
+ * 존재 여부는 파티션 기간이 아니라 청크의 mt20id로 판단하므로, 해시가 없는 이전 행이나
+ * 여러 달에 걸친 공연도 기존 공연으로 보고 상세를 다시 받지 않는다.
+ * 실행기의 큐가 가득 차면 청크 스레드가 직접 조회하므로 목록 읽기가 상세 조회보다 앞서 나가지 않는다.
+ * Writer({@code AsyncItemWriter})가 청크의 Future를 모두 기다린 뒤 한 번에 저장한다.
+ */
+@Slf4j
+@Component
+@StepScope
+@RequiredArgsConstructor
+public class PerformanceIngestItemProcessor implements ItemProcessor<KopisPerformanceListItem, Future<KopisPerformance>> {
+
+    private final PerformanceItemProcessor performanceItemProcessor;
+    private final KopisPerformanceDataProvider kopisPerformanceDataProvider;
+    @Qualifier("kopisDetailTaskExecutor")
+    private final TaskExecutor kopisDetailTaskExecutor;
+
+    @Override
+    public Future<KopisPerformance> process(@Nonnull KopisPerformanceListItem item) {
+        KopisPerformance performance = performanceItemProcessor.process(item);
+        if (performance == null) {
+            return null; // 변경 없음
+        }
+
+        if (performanceItemProcessor.isKnown(item.getMt20id())) {
+            // 기존 공연은 목록 필드만 갱신 (상세는 이미 있거나 상세 스텝이 채운다)
+            return CompletableFuture.completedFuture(performance);
+        }
+
+        return CompletableFuture.supplyAsync(() -> fillDetail(performance), kopisDetailTaskExecutor);
+    }
+
+    /**
+     * 실패는 Writer가 Future를 꺼낼 때 드러나므로 mt20id를 담아 던진다 (dead letter 기록용).
+     */
+    private KopisPerformance fillDetail(KopisPerformance performance) {
+        try {
+            KopisPerformanceDetailItem detail = kopisPerformanceDataProvider.fetchPerformanceDetail(
+                    performance.getKopisId());
+
+            if (detail == null) {
+                log.warn("상세정보를 찾을 수 없음: {}", performance.getKopisId());
+                performance.handleNoDetail();
+                return performance;
+            }
+
+            performance.updateDetailInfo(detail);
+            return performance;
+        } catch (RuntimeException e) {
+            throw new IngestionItemException(performance.getKopisId(), e);
+        }
+    }
+}
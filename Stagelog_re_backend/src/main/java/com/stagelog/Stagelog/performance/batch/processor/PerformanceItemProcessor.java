@@ -4,40 +4,82 @@ import com.stagelog.Stagelog.performance.domain.KopisPerformance;
 import com.stagelog.Stagelog.performance.dto.KopisPerformanceListItem;
 import com.stagelog.Stagelog.performance.repository.KopisPerformanceRepository;
 import jakarta.annotation.Nonnull;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
+@StepScope
 @RequiredArgsConstructor
-public class PerformanceItemProcessor implements ItemProcessor<KopisPerformanceListItem, KopisPerformance> {
+public class PerformanceItemProcessor implements ItemProcessor<KopisPerformanceListItem, KopisPerformance>,
+        ItemReadListener<KopisPerformanceListItem> {
 
     private final KopisPerformanceRepository kopisPerformanceRepository;
 
+    // 청크를 읽는 동안 모은 mt20id. 청크의 첫 아이템을 처리할 때 한 번에 조회한다.
+    private final Set<String> pendingIds = new LinkedHashSet<>();
+    private final Set<String> loadedIds = new HashSet<>();
+    private final Map<String, String> storedHashes = new HashMap<>(); // 저장된 공연만 (해시 없는 이전 행은 값 null)
+
+    /**
+     * 스텝에 ItemReadListener로 등록해 두면 청크마다 {@code WHERE mt20id IN (...)} 한 번으로 끝난다.
+     */
+    @Override
+    public void afterRead(@Nonnull KopisPerformanceListItem item) {
+        pendingIds.add(item.getMt20id());
+    }
+
+    /**
+     * 목록 필드의 해시가 저장된 값과 같으면 null을 반환해 Writer로 넘기지 않는다 (filterCount로 집계).
+     * 신규/변경 공연만 {@code PerformanceIngestWriter}의 upsert 대상이 된다.
+     */
     @Override
     public KopisPerformance process(@Nonnull KopisPerformanceListItem item) {
-        KopisPerformance existingPerformance = findExisting(item);
+        KopisPerformance performance = item.toEntity();
 
-        if (existingPerformance != null) {
-            log.debug("중복 아이템 공연 상태 업데이트: {} ({})",
-                    item.getMt20id(), item.getPrfnm());
+        if (performance.getContentHash().equals(storedHash(item.getMt20id()))) {
+            log.debug("변경 없는 아이템 스킵: {} ({})", item.getMt20id(), item.getPrfnm());
+            return null;
+        }
 
-            // 기존 엔티티의 상태(status)만 최신 정보로 업데이트
-            existingPerformance.updateStatus(item.getPrfstate());
+        log.debug("신규/변경 아이템 처리: {} ({})", item.getMt20id(), item.getPrfnm());
+        return performance;
+    }
 
-            // null을 리턴하면 배치가 스킵하지만, 기존 객체를 리턴하면 Writer로 넘어가서 Update됩니다.
-            return existingPerformance;
-        }
+    /**
+     * 이미 저장된 공연인지 (mt20id 기준). 파이프라인 수집에서 상세 조회 대상을 고를 때 쓴다.
+     */
+    public boolean isKnown(String kopisId) {
+        load(kopisId);
+        return storedHashes.containsKey(kopisId);
+    }
 
-        log.debug("새로운 아이템 처리: {} ({})",
-                item.getMt20id(), item.getPrfnm());
-        return item.toEntity();
+    private String storedHash(String kopisId) {
+        load(kopisId);
+        return storedHashes.get(kopisId);
     }
 
-    private KopisPerformance findExisting(KopisPerformanceListItem item) {
-        return kopisPerformanceRepository.findByKopisId(item.getMt20id())
-                .orElse(null);
+    /**
+     * 아직 조회하지 않은 mt20id면 지금까지 읽은 청크의 mt20id와 함께 조회한다.
+     */
+    private void load(String kopisId) {
+        if (loadedIds.contains(kopisId)) {
+            return;
+        }
+        pendingIds.add(kopisId);
+        Map<String, String> found = kopisPerformanceRepository.findContentHashesByKopisIds(pendingIds);
+        storedHashes.putAll(found);
+        loadedIds.addAll(pendingIds);
+        log.debug("기존 공연 해시 조회: {}건 중 {}건 저장됨", pendingIds.size(), found.size());
+        pendingIds.clear();
     }
 }
@@ -0,0 +1,85 @@
+package com.stagelog.Stagelog.performance.batch.reader;
+
+import com.stagelog.Stagelog.performance.domain.IngestionDeadLetter;
+import com.stagelog.Stagelog.performance.domain.IngestionDeadLetter.Status;
+import com.stagelog.Stagelog.performance.repository.IngestionDeadLetterRepository;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+/**
+ * 미처리(PENDING) dead letter를 id 기준 keyset 방식으로 읽는다.
+ * 재처리에 다시 실패한 항목은 PENDING으로 남지만 id가 지나갔으므로 같은 실행에서 다시 읽지 않는다.
+ */
+@Slf4j
+@Component
+@StepScope
+public class IngestionDeadLetterItemReader implements ItemStreamReader<IngestionDeadLetter> {
+
+    public static final int PAGE_SIZE = 30;
+
+    private static final String LAST_ID_KEY = "ingestionDeadLetterItemReader.lastId";
+
+    private final IngestionDeadLetterRepository ingestionDeadLetterRepository;
+
+    private final List<IngestionDeadLetter> buffer = new ArrayList<>();
+    private int nextIndex = 0;
+    private long lastReadId = 0L;
+    private long lastFetchedId = 0L;
+    private boolean exhausted = false;
+
+    public IngestionDeadLetterItemReader(IngestionDeadLetterRepository ingestionDeadLetterRepository) {
+        this.ingestionDeadLetterRepository = ingestionDeadLetterRepository;
+    }
+
+    @Override
+    public IngestionDeadLetter read() {
+        if (nextIndex >= buffer.size() && !fetchNextPage()) {
+            return null;
+        }
+
+        IngestionDeadLetter deadLetter = buffer.get(nextIndex++);
+        lastReadId = deadLetter.getId();
+        return deadLetter;
+    }
+
+    private boolean fetchNextPage() {
+        if (exhausted) {
+            return false;
+        }
+
+        buffer.clear();
+        nextIndex = 0;
+        buffer.addAll(ingestionDeadLetterRepository.findByStatusAndIdGreaterThanOrderByIdAsc(
+                Status.PENDING, lastFetchedId, Limit.of(PAGE_SIZE)));
+
+        if (buffer.size() < PAGE_SIZE) {
+            exhausted = true;
+        }
+        if (buffer.isEmpty()) {
+            return false;
+        }
+
+        lastFetchedId = buffer.get(buffer.size() - 1).getId();
+        return true;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        if (executionContext.containsKey(LAST_ID_KEY)) {
+            lastReadId = executionContext.getLong(LAST_ID_KEY);
+            lastFetchedId = lastReadId;
+            log.info("dead letter 재처리 재개: lastId={}", lastReadId);
+        }
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        executionContext.putLong(LAST_ID_KEY, lastReadId);
+    }
+}
@@ -0,0 +1,84 @@
+package com.stagelog.Stagelog.performance.batch.reader;
+
+import com.stagelog.Stagelog.performance.domain.KopisPerformance;
+import com.stagelog.Stagelog.performance.repository.KopisPerformanceRepository;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상세 정보가 없는 공연을 id 기준 keyset 방식으로 읽는다.
+ * 스텝이 읽은 행의 has_detail을 바로 true로 바꿔도 OFFSET이 밀리지 않아 대상 행을 빠짐없이 한 번씩 방문한다.
+ */
+@Slf4j
+@Component
+@StepScope
+public class PerformanceDetailItemReader implements ItemStreamReader<KopisPerformance> {
+
+    public static final int PAGE_SIZE = 30;
+
+    private static final String LAST_ID_KEY = "performanceDetailItemReader.lastId";
+
+    private final KopisPerformanceRepository kopisPerformanceRepository;
+
+    private final List<KopisPerformance> buffer = new ArrayList<>();
+    private int nextIndex = 0;
+    private long lastReadId = 0L; // 마지막으로 read()가 반환한 id (체크포인트)
+    private long lastFetchedId = 0L; // 마지막으로 조회한 페이지의 끝 id
+    private boolean exhausted = false;
+
+    public PerformanceDetailItemReader(KopisPerformanceRepository kopisPerformanceRepository) {
+        this.kopisPerformanceRepository = kopisPerformanceRepository;
+    }
+
+    @Override
+    public KopisPerformance read() {
+        if (nextIndex >= buffer.size() && !fetchNextPage()) {
+            return null;
+        }
+
+        KopisPerformance performance = buffer.get(nextIndex++);
+        lastReadId = performance.getId();
+        return performance;
+    }
+
+    private boolean fetchNextPage() {
+        if (exhausted) {
+            return false;
+        }
+
+        buffer.clear();
+        nextIndex = 0;
+        buffer.addAll(kopisPerformanceRepository.findByHasDetailFalseAndIdGreaterThanOrderByIdAsc(
+                lastFetchedId, Limit.of(PAGE_SIZE)));
+
+        if (buffer.size() < PAGE_SIZE) {
+            exhausted = true;
+        }
+        if (buffer.isEmpty()) {
+            return false;
+        }
+
+        lastFetchedId = buffer.get(buffer.size() - 1).getId();
+        return true;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        if (executionContext.containsKey(LAST_ID_KEY)) {
+            lastReadId = executionContext.getLong(LAST_ID_KEY);
+            lastFetchedId = lastReadId;
+            log.info("상세 수집 재개: lastId={}", lastReadId);
+        }
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        executionContext.putLong(LAST_ID_KEY, lastReadId);
+    }
+}
@@ -1,7 +1,6 @@
 package com.stagelog.Stagelog.performance.batch.reader;
 
-import com.stagelog.Stagelog.global.exception.BatchProcessException;
-import com.stagelog.Stagelog.global.exception.ErrorCode;
+import com.stagelog.Stagelog.performance.client.KopisClientProperties;
 import com.stagelog.Stagelog.performance.client.KopisPerformanceDataProvider;
 import com.stagelog.Stagelog.performance.dto.KopisPerformanceListItem;
 import java.time.LocalDate;
@@ -10,40 +9,52 @@ import java.util.ArrayList;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.configuration.annotation.StepScope;
-import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
 @StepScope
-@Slf4j  
-public class PerformanceItemReader implements ItemReader<KopisPerformanceListItem> {
+@Slf4j
+public class PerformanceItemReader implements ItemStreamReader<KopisPerformanceListItem> {
     private final KopisPerformanceDataProvider kopisPerformanceDataProvider;
 
     private final List<KopisPerformanceListItem> performanceBuffer = new ArrayList<>();
     private final SearchPeriodCursor periodCursor;
+    private final String category;
+    private final int rowsPerPage;
 
     private int currentPage = 1;
     private int nextIndex = 0;
+    private int restoredOffset = 0;
+    private boolean lastPageFetched = false;
 
-    private static final String CATEGORY_PERFORMANCE = "CCCD";
+    // 장르 코드가 없는 파티션(장르 분할 이전에 만들어진 실행을 재시작하는 경우)은 대중음악으로 조회
+    private static final String DEFAULT_CATEGORY = "CCCD";
 
+    // 재시작 시 이어 읽기 위한 체크포인트 키 (StepExecutionContext)
+    private static final String WINDOW_START_KEY = "performanceItemReader.windowStart";
+    private static final String PAGE_KEY = "performanceItemReader.page";
+    private static final String OFFSET_KEY = "performanceItemReader.offset";
+
+    /**
+     * 파티션마다 생성되며, {@code KopisWindowPartitioner}가 넣어 둔 장르 코드와 구간(yyyy-MM-dd)을 한 번에 조회한다.
+     * 호출 간격은 {@code KopisRateLimiter}가 모든 파티션에 걸쳐 조절한다.
+     */
     public PerformanceItemReader(
             KopisPerformanceDataProvider kopisPerformanceDataProvider,
-            @Value("#{jobParameters['startDate']}") String startDate
+            KopisClientProperties kopisClientProperties,
+            @Value("#{stepExecutionContext['category']}") String category,
+            @Value("#{stepExecutionContext['periodStart']}") String periodStart,
+            @Value("#{stepExecutionContext['periodEnd']}") String periodEnd
     ) {
         this.kopisPerformanceDataProvider = kopisPerformanceDataProvider;
-
-        // startDate가 파라미터로 안 들어왔을 때를 대비한 방어 로직 (선택 사항)
-        LocalDate start;
-        if (startDate == null || startDate.isEmpty()) {
-            start = LocalDate.of(2024, 1, 1); // 기본값
-        } else {
-            start = LocalDate.parse(startDate, DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-        }
+        this.category = (category == null || category.isEmpty()) ? DEFAULT_CATEGORY : category;
+        this.rowsPerPage = kopisClientProperties.getRowsPerPage();
 
         // 커서 초기화
-        this.periodCursor = new SearchPeriodCursor(start);
+        this.periodCursor = new SearchPeriodCursor(LocalDate.parse(periodStart), LocalDate.parse(periodEnd));
     }
 
     @Override
@@ -59,6 +70,37 @@ public class PerformanceItemReader implements ItemReader<KopisPerformanceListIte
         return null; // 데이터 없음 (종료)
     }
 
+    /**
+     * 실패한 JobExecution을 재시작하면 마지막 커밋 시점의 월 구간/페이지/오프셋부터 이어서 읽는다.
+     * 저장된 페이지는 다시 조회한 뒤 이미 처리한 건수만큼 건너뛴다.
+     */
+    @Override
+    public void open(ExecutionContext executionContext) {
+        if (!executionContext.containsKey(WINDOW_START_KEY)) {
+            return;
+        }
+
+        periodCursor.restore(LocalDate.parse(executionContext.getString(WINDOW_START_KEY)));
+        currentPage = executionContext.getInt(PAGE_KEY, 1);
+        restoredOffset = executionContext.getInt(OFFSET_KEY, 0);
+
+        log.info("KOPIS 조회 재개: category={}, start={}, page={}, offset={}",
+                category, periodCursor.getFormattedStart(), currentPage, restoredOffset);
+    }
+
+    /**
+     * 청크 커밋 직전에 호출된다. 버퍼가 남아 있으면 버퍼의 페이지와 읽은 위치를,
+     * 다 읽었으면 다음에 조회할 페이지를 오프셋 0으로 저장한다.
+     */
+    @Override
+    public void update(ExecutionContext executionContext) {
+        boolean buffered = hasBufferedItems();
+
+        executionContext.putString(WINDOW_START_KEY, periodCursor.getCurrentStartDate().toString());
+        executionContext.putInt(PAGE_KEY, buffered ? currentPage - 1 : currentPage);
+        executionContext.putInt(OFFSET_KEY, buffered ? nextIndex : 0);
+    }
+
     private boolean hasBufferedItems() {
         return nextIndex < performanceBuffer.size();
     }
@@ -71,10 +113,24 @@ public class PerformanceItemReader implements ItemReader<KopisPerformanceListIte
         clearBuffer();
 
         while (performanceBuffer.isEmpty() && !periodCursor.isFinished()) {
-            fetchDataWithRateLimit();
+            fetchData();
         }
 
-        return !performanceBuffer.isEmpty();
+        skipRestoredOffset();
+        if (!hasBufferedItems() && !performanceBuffer.isEmpty()) {
+            // 재조회한 페이지가 저장 시점보다 짧아져 남은 항목이 없는 경우 다음 페이지로 진행
+            return tryFillBuffer();
+        }
+        return hasBufferedItems();
+    }
+
+    private void skipRestoredOffset() {
+        if (restoredOffset == 0) {
+            return;
+        }
+        // 재시작 직후 첫 페이지에서만 적용 (이미 커밋된 항목은 건너뜀)
+        nextIndex = Math.min(restoredOffset, performanceBuffer.size());
+        restoredOffset = 0;
     }
 
     private void clearBuffer() {
@@ -82,54 +138,52 @@ public class PerformanceItemReader implements ItemReader<KopisPerformanceListIte
         nextIndex = 0;
     }
 
-    private void fetchDataWithRateLimit() {
+    /**
+     * 재시도 후에도 실패하면 다음 구간으로 넘어가지 않고 스텝을 실패시킨다.
+     * 커서는 마지막 커밋 위치에 남아 있으므로 재시작하면 같은 페이지부터 다시 조회한다.
+     */
+    private void fetchData() {
         try {
-            sleepForRateLimit();
             fetchDataForCurrentPeriod();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new BatchProcessException(ErrorCode.BATCH_INTERRUPTED, e);
-        } catch (Exception e) {
-            log.error("API 호출 중 에러 발생", e);
-            periodCursor.moveToNextMonth();
-            resetPage();
+        } catch (RuntimeException e) {
+            log.error("API 호출 중 에러 발생: {} page={}", periodCursor.getFormattedStart(), currentPage, e);
+            clearBuffer(); // 스트리밍 도중 실패하면 일부만 담긴 페이지는 버린다
+            throw e;
         }
     }
 
-    private void sleepForRateLimit() throws InterruptedException {
-        Thread.sleep(250); // 초당 5회 제한 (안전하게 0.25초)
-    }
-
     private void fetchDataForCurrentPeriod() {
+        if (lastPageFetched) {
+            moveToNextWindow();
+            return;
+        }
         periodCursor.initCurrentPeriodIfNull();
 
         String start = periodCursor.getFormattedStart();
         String end = periodCursor.getFormattedEnd();
 
-        log.info("Fetching KOPIS: {} ~ {}, page={}", start, end, currentPage);
+        log.info("Fetching KOPIS: {} {} ~ {}, page={}", category, start, end, currentPage);
 
-        List<KopisPerformanceListItem> fetched = kopisPerformanceDataProvider.fetchPerformances(
-                start, end, currentPage, CATEGORY_PERFORMANCE
+        // <db> 단위로 파싱되는 즉시 버퍼에 담는다 (응답 전체 DTO를 만들지 않음)
+        int fetched = kopisPerformanceDataProvider.streamPerformances(
+                start, end, currentPage, category, performanceBuffer::add
         );
 
-        // 데이터가 있으면 버퍼에 담고 페이지 증가 후 리턴 (else 제거)
-        if (hasData(fetched)) {
-            performanceBuffer.addAll(fetched);
+        if (fetched > 0) {
             currentPage++;
-            return;
         }
 
-        // 데이터가 없으면 다음 달로 이동
-        periodCursor.moveToNextMonth();
-        resetPage();
-    }
-
-    private boolean hasData(List<KopisPerformanceListItem> fetched) {
-        return fetched != null && !fetched.isEmpty();
+        // 한 페이지를 다 채우지 못했으면 마지막 페이지: 빈 페이지를 한 번 더 요청하지 않고 구간을 끝낸다
+        if (fetched < rowsPerPage) {
+            lastPageFetched = true;
+        }
     }
 
-    private void resetPage() {
+    private void moveToNextWindow() {
+        periodCursor.moveToNextWindow();
         this.currentPage = 1;
+        this.restoredOffset = 0;
+        this.lastPageFetched = false;
     }
 
     private static class SearchPeriodCursor {
@@ -140,35 +194,38 @@ public class PerformanceItemReader implements ItemReader<KopisPerformanceListIte
         private LocalDate currentStartDate;
         private LocalDate currentEndDate;
 
-        public SearchPeriodCursor(LocalDate startDate) {
+        public SearchPeriodCursor(LocalDate startDate, LocalDate searchEndDate) {
             this.currentStartDate = startDate;
-            this.searchEndDate = LocalDate.now().plusMonths(12);
+            this.searchEndDate = searchEndDate;
         }
 
         public boolean isFinished() {
             return currentStartDate.isAfter(searchEndDate);
         }
 
+        public void restore(LocalDate startDate) {
+            this.currentStartDate = startDate;
+            updateCurrentEndDate();
+        }
+
+        public LocalDate getCurrentStartDate() {
+            return currentStartDate;
+        }
+
         public void initCurrentPeriodIfNull() {
             if (currentEndDate == null) {
                 updateCurrentEndDate();
             }
         }
 
-        public void moveToNextMonth() {
-            currentStartDate = currentStartDate.plusMonths(1);
+        public void moveToNextWindow() {
+            currentStartDate = currentEndDate.plusDays(1);
             updateCurrentEndDate();
         }
 
         private void updateCurrentEndDate() {
-            // 현재 시작일 기준 1달 뒤 하루 전 (예: 1/1 ~ 1/31)
-            LocalDate calculatedEnd = currentStartDate.plusMonths(1).minusDays(1);
-
-            if (calculatedEnd.isAfter(searchEndDate)) {
-                this.currentEndDate = searchEndDate;
-                return;
-            }
-            this.currentEndDate = calculatedEnd;
+            // 파티션 구간을 한 번에 조회 (구간 크기는 KopisWindowPartitioner가 정함)
+            this.currentEndDate = searchEndDate;
         }
 
         public String getFormattedStart() {
@@ -5,6 +5,7 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -13,20 +14,32 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class RawPerformanceScheduler {
 
+    private static final String SEQUENTIAL_MODE = "sequential";
+
     private final BatchService batchService;
 
+    // pipelined: 목록·상세를 한 잡에서 / sequential: 목록 잡 완료 후 상세 잡
+    @Value("${app.batch.ingest-mode:pipelined}")
+    private String ingestMode;
+
     // 매일 새벽 2시에 실행
     @Scheduled(cron = "0 0 2 * * *")
     public void runDailyFetch() {
-        log.info("=== 정기 배치 시작 (새벽 2시) ===");
+        log.info("=== 정기 배치 시작 (새벽 2시, mode={}) ===", ingestMode);
 
         String startDate = LocalDate.now().minusDays(7).format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-        // 1. 목록 가져오기 및 신규 저장/업데이트
-        batchService.runJob("performanceFetchJob", startDate);
 
-        // 2. 상세 정보가 없는 항목들 상세 정보 채우기
-        batchService.runJob("performanceDetailJob", null);
+        if (SEQUENTIAL_MODE.equalsIgnoreCase(ingestMode)) {
+            // 1. 목록 가져오기 및 신규 저장/업데이트
+            batchService.runJob("performanceFetchJob", startDate);
+
+            // 2. 상세 정보가 없는 항목들 상세 정보 채우기
+            batchService.runJob("performanceDetailJob", null);
+        } else {
+            // 목록 수집 중 신규 공연은 상세까지 받아 한 번에 저장 (batch-job 스레드에서 실행)
+            batchService.launchJob("performanceIngestJob", startDate);
+        }
 
-        log.info("=== 정기 배치 완료 ===");
+        log.info("=== 정기 배치 요청 완료 ===");
     }
 }
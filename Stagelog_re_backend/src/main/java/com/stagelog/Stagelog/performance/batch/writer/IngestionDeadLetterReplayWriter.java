@@ -0,0 +1,51 @@
+package com.stagelog.Stagelog.performance.batch.writer;
+
+import com.stagelog.Stagelog.performance.batch.processor.IngestionDeadLetterReplayProcessor.Replay;
+import com.stagelog.Stagelog.performance.domain.IngestionDeadLetter;
+import com.stagelog.Stagelog.performance.domain.KopisPerformance;
+import com.stagelog.Stagelog.performance.event.PerformanceChangedEvent;
+import com.stagelog.Stagelog.performance.repository.IngestionDeadLetterRepository;
+import com.stagelog.Stagelog.performance.repository.KopisPerformanceRepository;
+import com.stagelog.Stagelog.performance.service.PerformanceCalendarService;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재처리한 공연을 저장하고 같은 트랜잭션에서 dead letter를 처리 완료로 바꾼다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IngestionDeadLetterReplayWriter implements ItemWriter<Replay> {
+
+    private final KopisPerformanceRepository kopisPerformanceRepository;
+    private final IngestionDeadLetterRepository ingestionDeadLetterRepository;
+    private final PerformanceCalendarService performanceCalendarService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void write(Chunk<? extends Replay> chunk) {
+        List<KopisPerformance> performances = chunk.getItems().stream()
+                .map(Replay::performance)
+                .filter(Objects::nonNull)
+                .toList();
+        kopisPerformanceRepository.saveAllAndFlush(performances);
+        performanceCalendarService.refresh(performances.stream().map(KopisPerformance::getKopisId).toList());
+        eventPublisher.publishEvent(PerformanceChangedEvent.ofIds(
+                performances.stream().map(KopisPerformance::getId).toList()));
+
+        List<IngestionDeadLetter> deadLetters = chunk.getItems().stream()
+                .map(Replay::deadLetter)
+                .toList();
+        deadLetters.forEach(IngestionDeadLetter::markReplayed);
+        ingestionDeadLetterRepository.saveAll(deadLetters);
+
+        log.info("dead letter {}건 재처리 (공연 {}건 저장)", deadLetters.size(), performances.size());
+    }
+}
@@ -0,0 +1,58 @@
+package com.stagelog.Stagelog.performance.batch.writer;
+
+import com.stagelog.Stagelog.performance.domain.KopisPerformance;
+import com.stagelog.Stagelog.performance.event.PerformanceChangedEvent;
+import com.stagelog.Stagelog.performance.metrics.IngestionMetrics;
+import com.stagelog.Stagelog.performance.repository.KopisPerformanceRepository;
+import com.stagelog.Stagelog.performance.service.PerformanceCalendarService;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 목록 수집과 파이프라인 수집 결과를 mt20id 기준으로 저장한다.
+ * 상세까지 채운 신규 공연은 모든 필드를 한 번에 insert 하고, 목록만 있는 공연은 목록 필드만 upsert 한다.
+ * 파티션들이 같은 공연(여러 달에 걸친 공연)을 동시에 받아도 unique 제약 위반 없이 한 행으로 합쳐진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PerformanceIngestWriter implements ItemWriter<KopisPerformance> {
+
+    private final KopisPerformanceRepository kopisPerformanceRepository;
+    private final IngestionMetrics ingestionMetrics;
+    private final PerformanceCalendarService performanceCalendarService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void write(Chunk<? extends KopisPerformance> chunk) {
+        if (chunk.isEmpty()) {
+            log.debug("이 청크에 쓸 아이템이 없습니다.");
+            return;
+        }
+
+        List<KopisPerformance> items = List.copyOf(chunk.getItems());
+        Map<Boolean, List<KopisPerformance>> byDetail = items.stream()
+                .collect(Collectors.partitioningBy(
+                        performance -> Boolean.TRUE.equals(performance.getHasDetail())));
+
+        List<KopisPerformance> withDetails = byDetail.get(true);
+        List<KopisPerformance> listOnly = byDetail.get(false);
+        // 목록 수집 청크는 상세가 없으므로 빈 쪽은 타이머에 기록하지 않는다
+        int inserted = withDetails.isEmpty() ? 0 : ingestionMetrics.recordDbWrite("upsert_detail",
+                withDetails.size(), () -> kopisPerformanceRepository.upsertWithDetails(withDetails));
+        int updated = listOnly.isEmpty() ? 0 : ingestionMetrics.recordDbWrite("upsert_list",
+                listOnly.size(), () -> kopisPerformanceRepository.upsertListItems(listOnly));
+        List<String> kopisIds = items.stream().map(KopisPerformance::getKopisId).toList();
+        performanceCalendarService.refresh(kopisIds);
+        // 상세 포함 upsert도 이미 있던 공연을 덮어쓸 수 있으므로 쓴 공연 전부를 알린다
+        eventPublisher.publishEvent(PerformanceChangedEvent.ofKopisIds(kopisIds));
+        log.info("신규 공연 {}건(상세 포함), 목록 변경 {}건 저장", inserted, updated);
+    }
+}
@@ -1,11 +1,15 @@
 package com.stagelog.Stagelog.performance.batch.writer;
 
 import com.stagelog.Stagelog.performance.domain.KopisPerformance;
+import com.stagelog.Stagelog.performance.event.PerformanceChangedEvent;
+import com.stagelog.Stagelog.performance.metrics.IngestionMetrics;
 import com.stagelog.Stagelog.performance.repository.KopisPerformanceRepository;
+import com.stagelog.Stagelog.performance.service.PerformanceCalendarService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -14,6 +18,9 @@ import org.springframework.stereotype.Component;
 public class PerformanceItemWriter implements ItemWriter<KopisPerformance> {
 
     private final KopisPerformanceRepository kopisPerformanceRepository;
+    private final IngestionMetrics ingestionMetrics;
+    private final PerformanceCalendarService performanceCalendarService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public void write(Chunk<? extends KopisPerformance> chunk) {
@@ -26,7 +33,14 @@ public class PerformanceItemWriter implements ItemWriter<KopisPerformance> {
         log.info(">>>>> DB에 {}개의 새로운 아이템을 작성중입니다.", itemCount);
 
         try {
-            kopisPerformanceRepository.saveAll(chunk.getItems());
+            // flush까지 해야 제약 위반이 커밋 시점이 아니라 write 안에서 드러나 해당 아이템만 건너뛸 수 있다
+            ingestionMetrics.recordDbWrite("save_detail", itemCount,
+                    () -> kopisPerformanceRepository.saveAllAndFlush(chunk.getItems()));
+            // 상세 정보로 공연 기간이 바뀔 수 있으므로 flush 이후 버킷을 다시 펼친다
+            performanceCalendarService.refresh(
+                    chunk.getItems().stream().map(KopisPerformance::getKopisId).toList());
+            eventPublisher.publishEvent(PerformanceChangedEvent.ofIds(
+                    chunk.getItems().stream().map(KopisPerformance::getId).toList()));
             log.info("성공적으로 {}개의 아이템들이 저장되었습니다.", itemCount);
 
         } catch (Exception e) {
@@ -0,0 +1,162 @@
+package com.stagelog.Stagelog.performance.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stagelog.Stagelog.global.exception.ErrorCode;
+import com.stagelog.Stagelog.global.exception.KopisApiException;
+import com.stagelog.Stagelog.performance.dto.KopisPerformanceDetailItem;
+import com.stagelog.Stagelog.performance.dto.KopisPerformanceListItem;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link KopisResponseStore}를 앞단에 둔 provider.
+ *
+ * <ul>
+ *     <li>READ_WRITE: TTL 안의 응답은 디스크에서 돌려주고, 없거나 만료되면 호출 후 저장한다.</li>
+ *     <li>RECORD: 항상 호출하고 응답을 저장한다. 재처리/부하 테스트용 데이터를 모을 때 쓴다.</li>
+ *     <li>REPLAY: 저장된 응답만 사용하고 KOPIS는 호출하지 않는다. 없는 요청은 실패로 처리한다.</li>
+ * </ul>
+ * 목록 TTL은 조회 구간이 끝난 지 오래될수록(지난 달) 길게, 현재·미래 구간은 짧게 잡는다.
+ */
+@Slf4j
+public class CachingKopisDataProvider implements KopisPerformanceDataProvider {
+
+    public enum Mode { OFF, READ_WRITE, RECORD, REPLAY }
+
+    private static final String LIST_NAMESPACE = "list";
+    private static final String DETAIL_NAMESPACE = "detail";
+    private static final DateTimeFormatter KOPIS_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final TypeReference<List<KopisPerformanceListItem>> LIST_TYPE = new TypeReference<>() {
+    };
+
+    private final KopisPerformanceDataProvider delegate;
+    private final KopisResponseStore store;
+    private final ObjectMapper objectMapper;
+    private final KopisClientProperties.Cache cache;
+    private final int rowsPerPage;
+    private final Clock clock;
+
+    public CachingKopisDataProvider(
+            KopisPerformanceDataProvider delegate,
+            KopisResponseStore store,
+            ObjectMapper objectMapper,
+            KopisClientProperties properties
+    ) {
+        this(delegate, store, objectMapper, properties, Clock.systemDefaultZone());
+    }
+
+    CachingKopisDataProvider(
+            KopisPerformanceDataProvider delegate,
+            KopisResponseStore store,
+            ObjectMapper objectMapper,
+            KopisClientProperties properties,
+            Clock clock
+    ) {
+        this.delegate = delegate;
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.cache = properties.getCache();
+        this.rowsPerPage = properties.getRowsPerPage();
+        this.clock = clock;
+    }
+
+    @Override
+    public List<KopisPerformanceListItem> fetchPerformances(String startDate, String endDate, int currentPage,
+                                                            String category) {
+        String key = listKey(startDate, endDate, currentPage, category);
+        Optional<KopisResponseStore.Entry> cached = lookup(LIST_NAMESPACE, key, () -> listTtl(endDate));
+        if (cached.isPresent()) {
+            return toListItems(cached.get());
+        }
+
+        List<KopisPerformanceListItem> items = delegate.fetchPerformances(startDate, endDate, currentPage, category);
+        store.write(LIST_NAMESPACE, key, items, clock.instant());
+        return items;
+    }
+
+    @Override
+    public int streamPerformances(String startDate, String endDate, int currentPage, String category,
+                                  Consumer<KopisPerformanceListItem> consumer) {
+        String key = listKey(startDate, endDate, currentPage, category);
+        Optional<KopisResponseStore.Entry> cached = lookup(LIST_NAMESPACE, key, () -> listTtl(endDate));
+        if (cached.isPresent()) {
+            List<KopisPerformanceListItem> items = toListItems(cached.get());
+            items.forEach(consumer);
+            return items.size();
+        }
+
+        // 넘기는 동시에 모아 두었다가 페이지가 끝까지 성공했을 때만 저장한다
+        List<KopisPerformanceListItem> received = new ArrayList<>();
+        int count = delegate.streamPerformances(startDate, endDate, currentPage, category, item -> {
+            received.add(item);
+            consumer.accept(item);
+        });
+        store.write(LIST_NAMESPACE, key, received, clock.instant());
+        return count;
+    }
+
+    @Override
+    public KopisPerformanceDetailItem fetchPerformanceDetail(String kopisId) {
+        String key = "detail|mt20id=" + kopisId;
+        Optional<KopisResponseStore.Entry> cached = lookup(DETAIL_NAMESPACE, key, cache::getDetailTtl);
+        if (cached.isPresent()) {
+            // 상세 정보가 없다는 응답(null)도 그대로 저장·재생한다
+            return objectMapper.convertValue(cached.get().body(), KopisPerformanceDetailItem.class);
+        }
+
+        KopisPerformanceDetailItem detail = delegate.fetchPerformanceDetail(kopisId);
+        store.write(DETAIL_NAMESPACE, key, detail, clock.instant());
+        return detail;
+    }
+
+    /**
+     * TTL은 READ_WRITE에서 만료를 판단할 때만 계산한다.
+     */
+    private Optional<KopisResponseStore.Entry> lookup(String namespace, String key, Supplier<Duration> ttl) {
+        Mode mode = cache.getMode();
+        if (mode == Mode.OFF || mode == Mode.RECORD) {
+            return Optional.empty();
+        }
+
+        Optional<KopisResponseStore.Entry> entry = store.read(namespace, key);
+        if (mode == Mode.REPLAY) {
+            if (entry.isEmpty()) {
+                throw new KopisApiException(ErrorCode.KOPIS_API_FAILED, "재생 저장소에 없는 요청: " + key);
+            }
+            return entry;
+        }
+
+        if (entry.isEmpty()) {
+            return entry;
+        }
+        Optional<KopisResponseStore.Entry> fresh = entry
+                .filter(e -> e.storedAt().plus(ttl.get()).isAfter(clock.instant()));
+        fresh.ifPresent(e -> log.debug("KOPIS 캐시 적중: {}", key));
+        return fresh;
+    }
+
+    private List<KopisPerformanceListItem> toListItems(KopisResponseStore.Entry entry) {
+        return objectMapper.convertValue(entry.body(), LIST_TYPE);
+    }
+
+    private String listKey(String startDate, String endDate, int page, String category) {
+        return "list|stdate=" + startDate + "|eddate=" + endDate + "|cpage=" + page
+                + "|rows=" + rowsPerPage + "|shcate=" + category;
+    }
+
+    private Duration listTtl(String endDate) {
+        LocalDate windowEnd = LocalDate.parse(endDate, KOPIS_DATE);
+        // LocalDate는 초 단위 Duration을 뺄 수 없으므로 일 수로 바꿔 뺀다
+        LocalDate settledBefore = LocalDate.now(clock).minusDays(cache.getSettledWindowAge().toDays());
+        return windowEnd.isBefore(settledBefore) ? cache.getSettledWindowTtl() : cache.getRecentWindowTtl();
+    }
+}
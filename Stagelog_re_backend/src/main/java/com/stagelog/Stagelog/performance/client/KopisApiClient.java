@@ -1,70 +1,143 @@
 package com.stagelog.Stagelog.performance.client;
 
+import com.stagelog.Stagelog.global.exception.KopisApiException;
 import com.stagelog.Stagelog.performance.dto.KopisPerformanceListItem;
 import com.stagelog.Stagelog.performance.dto.KopisPerformanceDetailResponse;
 import com.stagelog.Stagelog.performance.dto.KopisPerformanceListResponse;
 import com.stagelog.Stagelog.performance.dto.KopisPerformanceDetailItem;
+import com.stagelog.Stagelog.performance.metrics.IngestionMetrics;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.util.UriComponentsBuilder;
 
 @Slf4j
 @Component
 public class KopisApiClient implements KopisPerformanceDataProvider {
 
-    private static final int ROWS_PER_PAGE = 100;
     private static final String BASE_URL = "http://www.kopis.or.kr";
+    private static final String LIST_OPERATION = "list";
+    private static final String DETAIL_OPERATION = "detail";
 
     @Value("${external.kopis}")
     private String apiKey;
     private final RestClient restClient;
+    private final KopisRateLimiter kopisRateLimiter;
+    private final KopisClientProperties kopisClientProperties;
+    private final KopisXmlStreamParser kopisXmlStreamParser;
+    private final IngestionMetrics ingestionMetrics;
 
-    public KopisApiClient(RestClient.Builder builder) {
-        this.restClient = builder.baseUrl(BASE_URL).build();
+    public KopisApiClient(
+            RestClient.Builder builder,
+            ClientHttpRequestFactory kopisClientHttpRequestFactory,
+            KopisRateLimiter kopisRateLimiter,
+            KopisClientProperties kopisClientProperties,
+            KopisXmlStreamParser kopisXmlStreamParser,
+            IngestionMetrics ingestionMetrics
+    ) {
+        this.restClient = builder
+                .baseUrl(BASE_URL)
+                .requestFactory(kopisClientHttpRequestFactory)
+                .build();
+        this.kopisRateLimiter = kopisRateLimiter;
+        this.kopisClientProperties = kopisClientProperties;
+        this.kopisXmlStreamParser = kopisXmlStreamParser;
+        this.ingestionMetrics = ingestionMetrics;
     }
 
+    /**
+     * 결과가 없으면 빈 리스트, 호출이 실패하면 {@link KopisApiException}을 던진다.
+     * 재시도·차단은 {@code ResilientKopisDataProvider}가 담당한다.
+     */
     @Override
     public List<KopisPerformanceListItem> fetchPerformances(String startDate, String endDate, int page, String category) {
+        String uri = listUri(startDate, endDate, page, category);
+        long startNanos = acquirePermit(LIST_OPERATION);
         try {
-            String uri = UriComponentsBuilder
-                    .fromPath("/openApi/restful/pblprfr")
-                    .queryParam("service", apiKey)
-                    .queryParam("stdate", startDate)
-                    .queryParam("eddate", endDate)
-                    .queryParam("cpage", page)
-                    .queryParam("rows", ROWS_PER_PAGE)
-                    .queryParam("shcate", category)
-                    .build(true).toString();
             KopisPerformanceListResponse response = restClient.get()
                     .uri(uri)
                     .retrieve()
                     .body(KopisPerformanceListResponse.class);
+            ingestionMetrics.recordKopisCall(LIST_OPERATION, startNanos, true);
             if (response == null || response.getPerformances() == null) {
                 return Collections.emptyList();
             }
             return response.getPerformances();
         } catch (RestClientException e) {
-            log.error("Kopis API 호출 오류: page={}", page, e);
-            return Collections.emptyList();
+            ingestionMetrics.recordKopisCall(LIST_OPERATION, startNanos, false);
+            throw toKopisApiException("목록 조회 page=" + page, e);
         }
     }
 
+    /**
+     * 응답 본문을 {@code KopisXmlStreamParser}로 읽어 &lt;db&gt; 하나가 파싱될 때마다 consumer에 넘긴다.
+     * 호출/파싱 오류는 그대로 던지므로 호출 측이 이미 받은 아이템을 버릴지 결정한다.
+     */
+    @Override
+    public int streamPerformances(String startDate, String endDate, int page, String category,
+                                  Consumer<KopisPerformanceListItem> consumer) {
+        String uri = listUri(startDate, endDate, page, category);
+        long startNanos = acquirePermit(LIST_OPERATION);
+        try {
+            Integer count = restClient.get()
+                    .uri(uri)
+                    .exchange((request, response) -> {
+                        HttpStatusCode status = response.getStatusCode();
+                        if (status.isError()) {
+                            throw new RestClientResponseException("KOPIS 목록 API 오류 응답", status,
+                                    response.getStatusText(), response.getHeaders(), null, null);
+                        }
+                        return kopisXmlStreamParser.parseListItems(response.getBody(), consumer);
+                    });
+            ingestionMetrics.recordKopisCall(LIST_OPERATION, startNanos, true);
+            return count == null ? 0 : count;
+        } catch (RestClientException e) {
+            ingestionMetrics.recordKopisCall(LIST_OPERATION, startNanos, false);
+            throw toKopisApiException("목록 조회 page=" + page, e);
+        }
+    }
+
+    private String listUri(String startDate, String endDate, int page, String category) {
+        return UriComponentsBuilder
+                .fromPath("/openApi/restful/pblprfr")
+                .queryParam("service", apiKey)
+                .queryParam("stdate", startDate)
+                .queryParam("eddate", endDate)
+                .queryParam("cpage", page)
+                .queryParam("rows", kopisClientProperties.getRowsPerPage())
+                .queryParam("shcate", category)
+                .build(true).toString();
+    }
+
+    /**
+     * 상세 정보가 없으면 null, 호출이 실패하면 {@link KopisApiException}을 던진다.
+     */
     @Override
     public KopisPerformanceDetailItem fetchPerformanceDetail(String kopisId) {
+        String uri = UriComponentsBuilder
+                .fromPath("/openApi/restful/pblprfr/{mt20id}")
+                .queryParam("service", apiKey)
+                .buildAndExpand(kopisId).toString();
+        long startNanos = acquirePermit(DETAIL_OPERATION);
         try {
-            String uri = UriComponentsBuilder
-                    .fromPath("/openApi/restful/pblprfr/{mt20id}")
-                    .queryParam("service", apiKey)
-                    .buildAndExpand(kopisId).toString();
             KopisPerformanceDetailResponse response = restClient.get()
                     .uri(uri)
                     .retrieve()
                     .body(KopisPerformanceDetailResponse.class);
+            ingestionMetrics.recordKopisCall(DETAIL_OPERATION, startNanos, true);
 
             if (response == null || response.getDetails() == null || response.getDetails().isEmpty()) {
                 log.warn("KOPIS API 응답 없음: kopisId={}", kopisId);
@@ -72,7 +145,48 @@ public class KopisApiClient implements KopisPerformanceDataProvider {
             }
             return response.getFirstDetail();
         } catch (RestClientException e) {
-            log.error("KOPIS 상세 API 오류: kopisId={}", kopisId, e);
+            ingestionMetrics.recordKopisCall(DETAIL_OPERATION, startNanos, false);
+            throw toKopisApiException("상세 조회 kopisId=" + kopisId, e);
+        }
+    }
+
+    /**
+     * 호출 한도 토큰을 얻고 대기 시간을 기록한 뒤, 호출 시간 측정 시작 시각을 반환한다.
+     */
+    private long acquirePermit(String operation) {
+        ingestionMetrics.recordRateLimitWait(operation, kopisRateLimiter.acquire());
+        return System.nanoTime();
+    }
+
+    /**
+     * 5xx·429와 응답을 받지 못한 오류(연결 실패, 타임아웃, 본문 읽기 실패)는 재시도 대상, 그 밖의 4xx는 재시도하지 않는다.
+     */
+    private KopisApiException toKopisApiException(String target, RestClientException e) {
+        if (e instanceof RestClientResponseException responseException) {
+            HttpStatusCode status = responseException.getStatusCode();
+            boolean retryable = status.is5xxServerError() || status.value() == 429;
+            Duration retryAfter = parseRetryAfter(responseException.getResponseHeaders());
+            return new KopisApiException(
+                    "KOPIS " + target + " 실패: HTTP " + status.value(), retryable, retryAfter, e);
+        }
+        return new KopisApiException("KOPIS " + target + " 실패: " + e.getMessage(), true, null, e);
+    }
+
+    private static Duration parseRetryAfter(HttpHeaders headers) {
+        String value = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(value.trim()));
+        } catch (NumberFormatException ignored) {
+            // HTTP-date 형식
+        }
+        try {
+            ZonedDateTime retryAt = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            Duration delay = Duration.between(ZonedDateTime.now(retryAt.getZone()), retryAt);
+            return delay.isNegative() ? Duration.ZERO : delay;
+        } catch (DateTimeParseException e) {
             return null;
         }
     }
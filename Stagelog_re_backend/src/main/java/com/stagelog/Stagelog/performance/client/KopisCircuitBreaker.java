@@ -0,0 +1,124 @@
+package com.stagelog.Stagelog.performance.client;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 최근 호출 결과를 고정 크기 창으로 보고 실패율이 기준을 넘으면 일정 시간 호출을 막는다.
+ *
+ * <p>CLOSED: 정상 호출. 창에 {@code minimumCalls} 이상 쌓인 뒤 실패율이 {@code failureRateThreshold} 이상이면 OPEN.
+ * <br>OPEN: {@code openDuration} 동안 호출을 막는다. 시간이 지나면 한 스레드만 시험 호출(HALF_OPEN)을 한다.
+ * <br>HALF_OPEN: 시험 호출이 성공하면 CLOSED, 실패하면 다시 OPEN.
+ * 요청 자체의 오류(4xx)처럼 KOPIS 상태를 알 수 없는 결과는 {@link #onIgnored()}로 알리며 창에 기록하지 않는다.
+ */
+public class KopisCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final long PROBE_WAIT_NANOS = Duration.ofMillis(500).toNanos();
+
+    private final boolean[] outcomes; // true = 실패
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private int recorded = 0;
+    private int nextSlot = 0;
+    private int failures = 0;
+    private long openUntilNanos;
+
+    public KopisCircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, Duration openDuration) {
+        this(windowSize, minimumCalls, failureRateThreshold, openDuration, System::nanoTime);
+    }
+
+    KopisCircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, Duration openDuration,
+                        LongSupplier nanoClock) {
+        if (windowSize < 1 || minimumCalls < 1 || minimumCalls > windowSize) {
+            throw new IllegalArgumentException("minimumCalls must be between 1 and windowSize.");
+        }
+        this.outcomes = new boolean[windowSize];
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 호출해도 되면 0을, 막혀 있으면 다시 확인하기까지 기다릴 시간(ns)을 반환한다.
+     */
+    public synchronized long permitWaitNanos() {
+        if (state == State.CLOSED) {
+            return 0;
+        }
+        if (state == State.HALF_OPEN) {
+            return PROBE_WAIT_NANOS; // 다른 스레드의 시험 호출 결과를 기다린다
+        }
+
+        long remaining = openUntilNanos - nanoClock.getAsLong();
+        if (remaining > 0) {
+            return remaining;
+        }
+        state = State.HALF_OPEN;
+        return 0;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            close();
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (state == State.CLOSED && recorded >= minimumCalls
+                && (double) failures / recorded >= failureRateThreshold) {
+            open();
+        }
+    }
+
+    /**
+     * 성공도 실패도 아닌 결과. 창에는 기록하지 않고, 시험 호출이었다면 다른 호출이 바로 다시 시험하도록 자리를 돌려준다.
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            state = State.OPEN;
+            openUntilNanos = nanoClock.getAsLong();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failed) {
+        if (recorded == outcomes.length && outcomes[nextSlot]) {
+            failures--;
+        }
+        outcomes[nextSlot] = failed;
+        if (failed) {
+            failures++;
+        }
+        nextSlot = (nextSlot + 1) % outcomes.length;
+        recorded = Math.min(recorded + 1, outcomes.length);
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openUntilNanos = nanoClock.getAsLong() + openDurationNanos;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        recorded = 0;
+        nextSlot = 0;
+        failures = 0;
+    }
+}
@@ -0,0 +1,110 @@
+package com.stagelog.Stagelog.performance.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.file.Path;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+@Configuration
+public class KopisClientConfig {
+
+    /**
+     * 목록·상세 조회가 모두 이 버킷을 거치므로 스텝·스레드 수와 관계없이 KOPIS 한도가 지켜진다.
+     */
+    @Bean
+    public KopisRateLimiter kopisRateLimiter(KopisClientProperties kopisClientProperties) {
+        return new KopisRateLimiter(
+                kopisClientProperties.getRequestsPerSecond(),
+                kopisClientProperties.getBurst()
+        );
+    }
+
+    @Bean
+    public KopisCircuitBreaker kopisCircuitBreaker(KopisClientProperties kopisClientProperties) {
+        KopisClientProperties.CircuitBreaker circuitBreaker = kopisClientProperties.getCircuitBreaker();
+        return new KopisCircuitBreaker(
+                circuitBreaker.getWindowSize(),
+                circuitBreaker.getMinimumCalls(),
+                circuitBreaker.getFailureRateThreshold(),
+                circuitBreaker.getOpenDuration()
+        );
+    }
+
+    /**
+     * 실제 호출은 {@link KopisApiClient}에 위임하고 재시도·서킷 브레이커·속도 조절을 덧씌운다.
+     */
+    @Bean
+    public ResilientKopisDataProvider resilientKopisDataProvider(
+            KopisApiClient kopisApiClient,
+            KopisRateLimiter kopisRateLimiter,
+            KopisCircuitBreaker kopisCircuitBreaker,
+            KopisClientProperties kopisClientProperties
+    ) {
+        return new ResilientKopisDataProvider(
+                kopisApiClient, kopisRateLimiter, kopisCircuitBreaker, kopisClientProperties);
+    }
+
+    /**
+     * Reader/Processor가 주입받는 기본 provider.
+     * 캐시 모드가 켜져 있으면 디스크 캐시 → 재시도 → KOPIS 순으로 거치므로 캐시 적중 시 호출 한도를 쓰지 않는다.
+     */
+    @Bean
+    @Primary
+    public KopisPerformanceDataProvider kopisPerformanceDataProvider(
+            ResilientKopisDataProvider resilientKopisDataProvider,
+            KopisClientProperties kopisClientProperties,
+            ObjectMapper objectMapper
+    ) {
+        KopisClientProperties.Cache cache = kopisClientProperties.getCache();
+        if (cache.getMode() == CachingKopisDataProvider.Mode.OFF) {
+            return resilientKopisDataProvider;
+        }
+
+        KopisResponseStore store = new KopisResponseStore(Path.of(cache.getDirectory()), objectMapper);
+        return new CachingKopisDataProvider(resilientKopisDataProvider, store, objectMapper, kopisClientProperties);
+    }
+
+    /**
+     * KOPIS 전용 HTTP 엔진. keep-alive 커넥션을 풀에 두고 재사용하며, 호스트당 커넥션 수와 타임아웃을 제한한다.
+     * HttpClient 5는 기본으로 Accept-Encoding: gzip, deflate를 보내고 응답을 풀어 준다.
+     * 빈 종료 시 팩토리가 HttpClient(와 커넥션 풀)를 닫는다.
+     */
+    @Bean
+    public HttpComponentsClientHttpRequestFactory kopisClientHttpRequestFactory(
+            KopisClientProperties kopisClientProperties
+    ) {
+        KopisClientProperties.Http http = kopisClientProperties.getHttp();
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(http.getMaxConnections())
+                .setMaxConnPerRoute(http.getMaxConnectionsPerHost())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(http.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(http.getReadTimeout()))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(5))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(http.getConnectionRequestTimeout()))
+                        .setResponseTimeout(Timeout.of(http.getReadTimeout()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(http.getIdleTimeout()))
+                .build();
+
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+}
@@ -0,0 +1,77 @@
+package com.stagelog.Stagelog.performance.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.kopis")
+public class KopisClientProperties {
+    private double requestsPerSecond = 5.0; // KOPIS 초당 호출 한도
+    private int burst = 5;                   // 순간적으로 허용할 최대 호출 수
+    private int detailConcurrency = 8;       // 상세 조회 동시 요청 수
+    private int listConcurrency = 4;         // 동시에 수집할 목록 파티션(장르 × 월) 수
+    private int rowsPerPage = 100;           // 목록 한 페이지 건수 (스트리밍 파싱이라 크게 잡아도 됨)
+    private double minRequestsPerSecond = 0.5; // 오류가 이어질 때 낮출 수 있는 최저 호출 속도
+    private List<String> categories = new ArrayList<>(List.of("CCCD")); // 수집할 KOPIS 장르 코드 (shcate)
+    private final Http http = new Http();
+    private final Retry retry = new Retry();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private final Cache cache = new Cache();
+    private final Window window = new Window();
+
+    @Getter
+    @Setter
+    public static class Http {
+        private Duration connectTimeout = Duration.ofSeconds(3);
+        private Duration readTimeout = Duration.ofSeconds(15);           // 응답 대기 한도 (멈춘 연결이 스레드를 붙잡지 않도록)
+        private Duration connectionRequestTimeout = Duration.ofSeconds(30); // 풀에서 커넥션을 빌릴 때 대기 한도
+        private Duration idleTimeout = Duration.ofSeconds(30);           // 이 시간 이상 놀고 있는 커넥션은 정리
+        private int maxConnections = 32;
+        private int maxConnectionsPerHost = 16;  // KOPIS 호스트로 동시에 열 수 있는 커넥션 수
+    }
+
+    @Getter
+    @Setter
+    public static class Retry {
+        private int maxAttempts = 6;                             // 첫 호출 포함
+        private Duration initialBackoff = Duration.ofSeconds(1);
+        private Duration maxBackoff = Duration.ofSeconds(60);
+        private Duration maxTotalWait = Duration.ofMinutes(10); // 한 호출이 재시도·차단으로 기다릴 수 있는 최대 시간
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+        private int windowSize = 20;                  // 최근 호출 결과 창 크기
+        private int minimumCalls = 10;                // 이만큼 쌓여야 실패율을 판단
+        private double failureRateThreshold = 0.5;
+        private Duration openDuration = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    public static class Window {
+        private boolean adaptive = true;  // false면 항상 한 달 단위 구간
+        private int maxMergedMonths = 6;  // 드문 달을 합칠 때 최대 개월 수
+        private int splitPages = 10;      // 한 달 추정치가 이 페이지 수를 넘으면 나눔
+        private int maxSplits = 4;        // 한 달을 최대 몇 구간으로 나눌지
+    }
+
+    @Getter
+    @Setter
+    public static class Cache {
+        private CachingKopisDataProvider.Mode mode = CachingKopisDataProvider.Mode.OFF;
+        private String directory = "./kopis-cache";
+        private Duration recentWindowTtl = Duration.ofHours(12);   // 현재·미래 구간 목록
+        private Duration settledWindowTtl = Duration.ofDays(30);   // 끝난 지 settledWindowAge 이상 지난 구간 목록
+        private Duration settledWindowAge = Duration.ofDays(30);
+        private Duration detailTtl = Duration.ofDays(7);
+    }
+}
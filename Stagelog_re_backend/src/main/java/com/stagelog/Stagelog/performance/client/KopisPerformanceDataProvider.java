@@ -3,9 +3,21 @@ package com.stagelog.Stagelog.performance.client;
 import com.stagelog.Stagelog.performance.dto.KopisPerformanceListItem;
 import com.stagelog.Stagelog.performance.dto.KopisPerformanceDetailItem;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface KopisPerformanceDataProvider {
     List<KopisPerformanceListItem> fetchPerformances(String startDate, String endDate, int currentPage, String category);
 
+    /**
+     * 목록을 한 건씩 consumer에 넘긴다. 호출 실패 시 예외를 던진다.
+     * @return 넘긴 아이템 수
+     */
+    default int streamPerformances(String startDate, String endDate, int currentPage, String category,
+                                   Consumer<KopisPerformanceListItem> consumer) {
+        List<KopisPerformanceListItem> items = fetchPerformances(startDate, endDate, currentPage, category);
+        items.forEach(consumer);
+        return items.size();
+    }
+
     KopisPerformanceDetailItem fetchPerformanceDetail(String kopisId);
 }
@@ -0,0 +1,96 @@
+package com.stagelog.Stagelog.performance.client;
+
+import com.stagelog.Stagelog.global.exception.BatchProcessException;
+import com.stagelog.Stagelog.global.exception.ErrorCode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * KOPIS 호출 한도를 모든 배치 워커가 공유하는 토큰 버킷.
+ *
+ * <p>토큰은 초당 {@code permitsPerSecond}개씩 채워지고 최대 {@code burst}개까지 쌓인다.
+ * 토큰이 없으면 다음 토큰이 채워질 때까지 호출 스레드를 대기시키므로,
+ * 동시에 몇 개의 스레드가 호출하더라도 전체 호출량은 한도를 넘지 않는다.
+ */
+public class KopisRateLimiter {
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double capacity;
+    private double permitsPerNano;
+
+    private double availableTokens;
+    private long lastRefillNanos;
+
+    public KopisRateLimiter(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive and burst at least 1.");
+        }
+        this.capacity = burst;
+        this.permitsPerNano = permitsPerSecond / NANOS_PER_SECOND;
+        this.availableTokens = burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 토큰 하나를 얻을 때까지 대기한다.
+     *
+     * @return 대기한 시간(ns)
+     */
+    public long acquire() {
+        long startNanos = System.nanoTime();
+        long waitNanos;
+        while ((waitNanos = reserve()) > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BatchProcessException(ErrorCode.BATCH_INTERRUPTED, e);
+            }
+        }
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * 초당 허용량을 바꾼다. 이미 쌓인 토큰은 유지된다.
+     * 오류율에 따라 호출 속도를 늦추거나 되돌릴 때 사용한다.
+     */
+    public synchronized void setRate(double permitsPerSecond) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive.");
+        }
+        refill(System.nanoTime());
+        this.permitsPerNano = permitsPerSecond / NANOS_PER_SECOND;
+    }
+
+    public synchronized double getRate() {
+        return permitsPerNano * NANOS_PER_SECOND;
+    }
+
+    /**
+     * 대기 없이 토큰을 얻을 수 있으면 소비하고 true를 반환한다.
+     */
+    public boolean tryAcquire() {
+        return reserve() == 0;
+    }
+
+    /**
+     * 토큰이 있으면 소비하고 0을, 없으면 다음 토큰까지 남은 시간(ns)을 반환한다.
+     */
+    private synchronized long reserve() {
+        refill(System.nanoTime());
+        if (availableTokens >= 1) {
+            availableTokens -= 1;
+            return 0;
+        }
+        return Math.max(1, (long) Math.ceil((1 - availableTokens) / permitsPerNano));
+    }
+
+    private void refill(long nowNanos) {
+        long elapsed = nowNanos - lastRefillNanos;
+        if (elapsed <= 0) {
+            return;
+        }
+        availableTokens = Math.min(capacity, availableTokens + elapsed * permitsPerNano);
+        lastRefillNanos = nowNanos;
+    }
+}
@@ -0,0 +1,80 @@
+package com.stagelog.Stagelog.performance.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * KOPIS 응답을 디스크에 JSON으로 보관한다.
+ * 파일 이름은 요청 키의 SHA-256이고 ({namespace}/{앞 2자리}/{해시}.json), 본문과 함께 원래 키와 저장 시각을 기록한다.
+ * 여러 파티션이 동시에 써도 반쯤 쓰인 파일을 읽지 않도록 임시 파일에 쓴 뒤 이동한다.
+ */
+@Slf4j
+public class KopisResponseStore {
+
+    private final Path root;
+    private final ObjectMapper objectMapper;
+
+    public KopisResponseStore(Path root, ObjectMapper objectMapper) {
+        this.root = root;
+        this.objectMapper = objectMapper;
+    }
+
+    public Optional<Entry> read(String namespace, String key) {
+        Path file = pathOf(namespace, key);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try {
+            Entry entry = objectMapper.readValue(file.toFile(), Entry.class);
+            if (!key.equals(entry.key())) {
+                log.warn("KOPIS 캐시 키 불일치, 무시: {}", file);
+                return Optional.empty();
+            }
+            return Optional.of(entry);
+        } catch (IOException e) {
+            log.warn("KOPIS 캐시 읽기 실패, 무시: {}", file, e);
+            return Optional.empty();
+        }
+    }
+
+    public void write(String namespace, String key, Object body, Instant storedAt) {
+        Path file = pathOf(namespace, key);
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), "kopis-", ".tmp");
+            objectMapper.writeValue(temp.toFile(), new Entry(key, storedAt, objectMapper.valueToTree(body)));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // 캐시는 보조 수단이므로 저장 실패가 배치를 멈추지 않게 한다
+            log.warn("KOPIS 캐시 저장 실패: {}", file, e);
+        }
+    }
+
+    private Path pathOf(String namespace, String key) {
+        String hash = sha256(key);
+        return root.resolve(namespace).resolve(hash.substring(0, 2)).resolve(hash + ".json");
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to hash KOPIS cache key.", e);
+        }
+    }
+
+    public record Entry(String key, Instant storedAt, JsonNode body) {
+    }
+}
@@ -0,0 +1,71 @@
+package com.stagelog.Stagelog.performance.client;
+
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import com.stagelog.Stagelog.performance.dto.KopisPerformanceListItem;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+
+/**
+ * KOPIS 목록 응답(&lt;dbs&gt;&lt;db&gt;...&lt;/db&gt;&lt;/dbs&gt;)을 StAX로 한 &lt;db&gt;씩 읽어 바로 넘긴다.
+ * 응답 전체를 {@code KopisPerformanceListResponse}로 만들지 않아 페이지 크기를 키워도 메모리 사용량이 일정하다.
+ */
+@Component
+public class KopisXmlStreamParser {
+
+    private static final String ITEM_ELEMENT = "db";
+
+    private final XmlMapper xmlMapper;
+    private final XMLInputFactory xmlInputFactory;
+
+    public KopisXmlStreamParser() {
+        // RestClient의 XML 컨버터와 같은 설정 (JavaTimeModule, 알 수 없는 필드 무시)
+        this.xmlMapper = Jackson2ObjectMapperBuilder.xml().build();
+        this.xmlInputFactory = xmlMapper.getFactory().getXMLInputFactory();
+    }
+
+    /**
+     * @return 전달한 아이템 수
+     */
+    public int parseListItems(InputStream body, Consumer<KopisPerformanceListItem> consumer) throws IOException {
+        XMLStreamReader reader = createReader(body);
+        try {
+            int count = 0;
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT
+                        && ITEM_ELEMENT.equals(reader.getLocalName())) {
+                    // readValue는 </db>에서 멈추므로 다음 next()가 형제 요소로 이동한다
+                    consumer.accept(xmlMapper.readValue(reader, KopisPerformanceListItem.class));
+                    count++;
+                }
+            }
+            return count;
+        } catch (XMLStreamException e) {
+            throw new IOException("KOPIS XML 파싱 실패", e);
+        } finally {
+            closeQuietly(reader);
+        }
+    }
+
+    private XMLStreamReader createReader(InputStream body) throws IOException {
+        try {
+            return xmlInputFactory.createXMLStreamReader(body);
+        } catch (XMLStreamException e) {
+            throw new IOException("KOPIS XML 파싱 실패", e);
+        }
+    }
+
+    private void closeQuietly(XMLStreamReader reader) {
+        try {
+            reader.close();
+        } catch (XMLStreamException ignored) {
+            // 응답 스트림은 RestClient가 닫는다
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.stagelog.Stagelog.performance.client;
+
+import com.stagelog.Stagelog.global.exception.BatchProcessException;
+import com.stagelog.Stagelog.global.exception.ErrorCode;
+import com.stagelog.Stagelog.global.exception.KopisApiException;
+import com.stagelog.Stagelog.performance.dto.KopisPerformanceDetailItem;
+import com.stagelog.Stagelog.performance.dto.KopisPerformanceListItem;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link KopisPerformanceDataProvider} 장애 대응 데코레이터.
+ *
+ * <ul>
+ *     <li>재시도 대상 오류(5xx, 429, 연결/타임아웃)는 지수 백오프 + 지터로 다시 호출하고, Retry-After가 있으면 그 이상 기다린다.</li>
+ *     <li>실패율이 높아지면 {@link KopisCircuitBreaker}가 호출을 잠시 막는다. 막힌 동안 호출 스레드는 실패하지 않고 기다린다.</li>
+ *     <li>재시도 대상 오류가 나면 공유 {@link KopisRateLimiter}의 속도를 절반으로 낮추고, 성공이 이어지면 설정값까지 조금씩 되돌린다.
+ *     동시에 진행 중이던 호출들이 같은 장애로 함께 실패해도 한 번만 낮추도록 {@code RATE_DECREASE_INTERVAL}에 한 번으로 제한한다.</li>
+ * </ul>
+ * 재시도 한도를 넘기면 예외를 던져 스텝을 실패시킨다. 빈 결과로 바꾸지 않으므로 데이터가 조용히 빠지지 않는다.
+ */
+@Slf4j
+public class ResilientKopisDataProvider implements KopisPerformanceDataProvider {
+
+    private static final double RATE_DECREASE_FACTOR = 0.5;
+    private static final double RATE_RECOVERY_RATIO = 0.05; // 성공 1회당 설정 속도의 5%씩 회복
+    private static final long RATE_DECREASE_INTERVAL_NANOS = Duration.ofSeconds(1).toNanos(); // 혼잡 1회로 보는 구간
+
+    private final KopisPerformanceDataProvider delegate;
+    private final KopisRateLimiter rateLimiter;
+    private final KopisCircuitBreaker circuitBreaker;
+    private final KopisClientProperties.Retry retry;
+    private final double maxRate;
+    private final double minRate;
+    private final Sleeper sleeper;
+    private final AtomicLong lastDecreaseNanos = new AtomicLong(System.nanoTime() - RATE_DECREASE_INTERVAL_NANOS);
+
+    public ResilientKopisDataProvider(
+            KopisPerformanceDataProvider delegate,
+            KopisRateLimiter rateLimiter,
+            KopisCircuitBreaker circuitBreaker,
+            KopisClientProperties properties
+    ) {
+        this(delegate, rateLimiter, circuitBreaker, properties, TimeUnit.NANOSECONDS::sleep);
+    }
+
+    ResilientKopisDataProvider(
+            KopisPerformanceDataProvider delegate,
+            KopisRateLimiter rateLimiter,
+            KopisCircuitBreaker circuitBreaker,
+            KopisClientProperties properties,
+            Sleeper sleeper
+    ) {
+        this.delegate = delegate;
+        this.rateLimiter = rateLimiter;
+        this.circuitBreaker = circuitBreaker;
+        this.retry = properties.getRetry();
+        this.maxRate = properties.getRequestsPerSecond();
+        this.minRate = Math.min(properties.getMinRequestsPerSecond(), maxRate);
+        this.sleeper = sleeper;
+    }
+
+    @Override
+    public List<KopisPerformanceListItem> fetchPerformances(String startDate, String endDate, int currentPage,
+                                                            String category) {
+        return execute("목록 " + startDate + "~" + endDate + " page=" + currentPage,
+                () -> delegate.fetchPerformances(startDate, endDate, currentPage, category));
+    }
+
+    /**
+     * 이미 일부 아이템을 넘긴 뒤 실패하면 중복을 막기 위해 재시도하지 않고 바로 던진다.
+     * 상태 코드 오류나 연결 실패처럼 본문을 받기 전 실패한 경우만 재시도된다.
+     */
+    @Override
+    public int streamPerformances(String startDate, String endDate, int currentPage, String category,
+                                  Consumer<KopisPerformanceListItem> consumer) {
+        AtomicInteger delivered = new AtomicInteger();
+        Consumer<KopisPerformanceListItem> countingConsumer = item -> {
+            delivered.incrementAndGet();
+            consumer.accept(item);
+        };
+
+        return execute("목록 " + startDate + "~" + endDate + " page=" + currentPage, () -> {
+            try {
+                return delegate.streamPerformances(startDate, endDate, currentPage, category, countingConsumer);
+            } catch (KopisApiException e) {
+                if (delivered.get() > 0) {
+                    throw new KopisApiException(e.getMessage() + " (스트리밍 도중 실패)", false, null, e);
+                }
+                throw e;
+            }
+        });
+    }
+
+    @Override
+    public KopisPerformanceDetailItem fetchPerformanceDetail(String kopisId) {
+        return execute("상세 " + kopisId, () -> delegate.fetchPerformanceDetail(kopisId));
+    }
+
+    private <T> T execute(String target, Supplier<T> call) {
+        long deadline = System.nanoTime() + retry.getMaxTotalWait().toNanos();
+        int attempt = 0;
+
+        while (true) {
+            awaitCircuit(target, deadline);
+            attempt++;
+            try {
+                T result = call.get();
+                onSuccess();
+                return result;
+            } catch (KopisApiException e) {
+                if (!e.isRetryable()) {
+                    // 재시도하지 않는 것과 장애로 세지 않는 것은 별개다. 스트리밍 도중 실패는 원인이 장애면 장애로 센다
+                    if (isCausedByOutage(e)) {
+                        onRetryableFailure();
+                    } else {
+                        // 4xx 등 요청 자체의 문제는 KOPIS 상태를 말해 주지 않으므로 성공으로도 세지 않는다
+                        circuitBreaker.onIgnored();
+                    }
+                    throw e;
+                }
+                onRetryableFailure();
+                if (attempt >= retry.getMaxAttempts()) {
+                    log.error("KOPIS 재시도 한도 초과: {} ({}회)", target, attempt);
+                    throw e;
+                }
+
+                long backoffNanos = backoffNanos(attempt, e.getRetryAfter());
+                if (System.nanoTime() + backoffNanos > deadline) {
+                    log.error("KOPIS 재시도 대기 한도 초과: {} ({}회)", target, attempt);
+                    throw e;
+                }
+                log.warn("KOPIS 호출 실패, {}ms 후 재시도 ({}/{}): {} - {}",
+                        TimeUnit.NANOSECONDS.toMillis(backoffNanos), attempt, retry.getMaxAttempts(),
+                        target, e.getMessage());
+                sleep(backoffNanos);
+            } catch (RuntimeException e) {
+                // 파싱/클라이언트 오류 등 예상 밖의 예외도 결과로 기록해야 HALF_OPEN 시험 호출이 풀린다
+                circuitBreaker.onFailure();
+                throw e;
+            }
+        }
+    }
+
+    private boolean isCausedByOutage(KopisApiException e) {
+        return e.getCause() instanceof KopisApiException cause && cause.isRetryable();
+    }
+
+    private void awaitCircuit(String target, long deadline) {
+        long waitNanos;
+        while ((waitNanos = circuitBreaker.permitWaitNanos()) > 0) {
+            if (System.nanoTime() + waitNanos > deadline) {
+                throw new KopisApiException(ErrorCode.KOPIS_CIRCUIT_OPEN,
+                        "KOPIS 호출 차단이 풀리지 않음: " + target);
+            }
+            log.debug("KOPIS 호출 차단 중, {}ms 대기: {}", TimeUnit.NANOSECONDS.toMillis(waitNanos), target);
+            sleep(waitNanos);
+        }
+    }
+
+    /**
+     * min(maxBackoff, initial * 2^(attempt-1))의 절반~전체 구간에서 무작위로 고른다 (equal jitter).
+     * Retry-After가 더 길면 그 값을 따른다.
+     */
+    long backoffNanos(int attempt, Duration retryAfter) {
+        long initial = retry.getInitialBackoff().toNanos();
+        long max = retry.getMaxBackoff().toNanos();
+        long exponential = initial << Math.min(attempt - 1, 20);
+        long ceiling = (exponential <= 0 || exponential > max) ? max : exponential;
+        long jittered = ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1);
+
+        if (retryAfter != null) {
+            return Math.max(jittered, retryAfter.toNanos());
+        }
+        return jittered;
+    }
+
+    private void onSuccess() {
+        circuitBreaker.onSuccess();
+        double current = rateLimiter.getRate();
+        if (current < maxRate) {
+            rateLimiter.setRate(Math.min(maxRate, current + maxRate * RATE_RECOVERY_RATIO));
+        }
+    }
+
+    private void onRetryableFailure() {
+        circuitBreaker.onFailure();
+        long now = System.nanoTime();
+        long last = lastDecreaseNanos.get();
+        if (now - last < RATE_DECREASE_INTERVAL_NANOS || !lastDecreaseNanos.compareAndSet(last, now)) {
+            return; // 같은 혼잡 구간의 실패는 이미 반영했다
+        }
+        double current = rateLimiter.getRate();
+        double lowered = Math.max(minRate, current * RATE_DECREASE_FACTOR);
+        if (lowered < current) {
+            rateLimiter.setRate(lowered);
+            log.warn("KOPIS 오류 증가로 호출 속도 하향: {} → {} req/s", format(current), format(lowered));
+        }
+    }
+
+    private void sleep(long nanos) {
+        try {
+            sleeper.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BatchProcessException(ErrorCode.BATCH_INTERRUPTED, e);
+        }
+    }
+
+    private static String format(double rate) {
+        return String.format("%.2f", rate);
+    }
+
+    @FunctionalInterface
+    interface Sleeper {
+        void sleep(long nanos) throws InterruptedException;
+    }
+}
@@ -1,10 +1,19 @@
 package com.stagelog.Stagelog.performance.controller;
 
+import com.stagelog.Stagelog.performance.dto.BatchExecutionResponse;
+import com.stagelog.Stagelog.performance.dto.BatchLaunchResponse;
+import com.stagelog.Stagelog.performance.service.BatchMonitorService;
 import com.stagelog.Stagelog.performance.service.BatchService;
+import com.stagelog.Stagelog.performance.service.PerformanceCalendarService;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -12,12 +21,31 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class BatchController {
     private final BatchService batchService;
+    private final BatchMonitorService batchMonitorService;
+    private final PerformanceCalendarService performanceCalendarService;
 
     @PostMapping("/run")
-    public String runBatch(
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public BatchLaunchResponse runBatch(
             @RequestParam String jobName,
             @RequestParam(required = false) String startDate) {
-        batchService.runJob(jobName, startDate);
-        return String.format("배치 실행 요청됨 (Job: %s, Date: %s)", jobName, startDate);
+        return BatchLaunchResponse.from(batchService.launchJob(jobName, startDate));
+    }
+
+    @PostMapping("/restart/{executionId}")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public BatchLaunchResponse restartBatch(@PathVariable Long executionId) {
+        return BatchLaunchResponse.from(batchService.restartJob(executionId));
+    }
+
+    @GetMapping("/executions/{executionId}")
+    public BatchExecutionResponse getExecution(@PathVariable Long executionId) {
+        return batchMonitorService.getExecution(executionId);
+    }
+
+    // 캘린더 버킷 전체 재생성 (최초 도입, 수동 복구)
+    @PostMapping("/calendar/rebuild")
+    public Map<String, Integer> rebuildCalendar() {
+        return Map.of("buckets", performanceCalendarService.rebuild());
     }
 }
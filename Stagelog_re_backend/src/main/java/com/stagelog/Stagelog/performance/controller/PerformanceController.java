@@ -0,0 +1,65 @@
+package com.stagelog.Stagelog.performance.controller;
+
+import com.stagelog.Stagelog.global.dto.PageResponse;
+import com.stagelog.Stagelog.performance.dto.CalendarPerformanceResponse;
+import com.stagelog.Stagelog.performance.dto.PerformanceDetailResponse;
+import com.stagelog.Stagelog.performance.dto.PerformanceListResponse;
+import com.stagelog.Stagelog.performance.dto.PerformanceScrollResponse;
+import com.stagelog.Stagelog.performance.service.PerformanceCalendarService;
+import com.stagelog.Stagelog.performance.service.PerformanceQueryService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/performances")
+@RequiredArgsConstructor
+public class PerformanceController {
+
+    private final PerformanceQueryService performanceQueryService;
+    private final PerformanceCalendarService performanceCalendarService;
+
+    @GetMapping
+    public ResponseEntity<PageResponse<PerformanceListResponse>> getPerformances(
+            @RequestParam(required = false) Boolean isFestival,
+            @RequestParam(required = false) String keyword,
+            @PageableDefault(size = 12, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(performanceQueryService.getPerformances(isFestival, keyword, pageable));
+    }
+
+    @GetMapping("/scroll")
+    public ResponseEntity<PerformanceScrollResponse> scrollPerformances(
+            @RequestParam(required = false) Boolean isFestival,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(size = 12, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(performanceQueryService.scrollPerformances(isFestival, keyword, cursor, pageable));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<PerformanceListResponse>> searchPerformances(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(performanceQueryService.searchPerformances(keyword, size));
+    }
+
+    @GetMapping("/calendar")
+    public ResponseEntity<List<CalendarPerformanceResponse>> getCalendarPerformances(
+            @RequestParam int year,
+            @RequestParam int month) {
+        return ResponseEntity.ok(performanceCalendarService.getMonth(year, month));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<PerformanceDetailResponse> getPerformance(@PathVariable Long id) {
+        return ResponseEntity.ok(performanceQueryService.getPerformance(id));
+    }
+}
@@ -0,0 +1,98 @@
+package com.stagelog.Stagelog.performance.domain;
+
+import com.stagelog.Stagelog.global.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 수집 중 건너뛴(skip) 공연. 스텝은 계속 진행하고, 원인을 고친 뒤 재처리 잡으로 이 항목만 다시 수집한다.
+ */
+@Entity
+@Table(name = "ingestion_dead_letter", indexes = @Index(
+        name = "idx_ingestion_dead_letter_status", columnList = "status, id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IngestionDeadLetter extends BaseEntity {
+
+    private static final int MAX_MESSAGE_LENGTH = 1000;
+
+    public enum Stage {
+        READ, PROCESS, WRITE
+    }
+
+    public enum Status {
+        PENDING, REPLAYED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "mt20id")
+    private String kopisId; // 읽기 단계 실패는 아이템을 알 수 없어 null
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "stage", nullable = false, length = 10)
+    private Stage stage;
+
+    @Column(name = "step_name")
+    private String stepName;
+
+    @Column(name = "job_execution_id")
+    private Long jobExecutionId;
+
+    @Column(name = "exception_type")
+    private String exceptionType;
+
+    @Column(name = "message", length = MAX_MESSAGE_LENGTH)
+    private String message;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 10)
+    private Status status;
+
+    public static IngestionDeadLetter of(String kopisId, Stage stage, String stepName, Long jobExecutionId,
+                                         Throwable error) {
+        IngestionDeadLetter deadLetter = new IngestionDeadLetter();
+        deadLetter.kopisId = kopisId;
+        deadLetter.stage = stage;
+        deadLetter.status = Status.PENDING;
+        deadLetter.recordFailure(stepName, jobExecutionId, error);
+        return deadLetter;
+    }
+
+    /**
+     * 같은 공연이 다시 실패하면 새 행을 만들지 않고 최근 실패 정보로 덮어쓴다.
+     */
+    public void recordFailure(String stepName, Long jobExecutionId, Throwable error) {
+        this.stepName = stepName;
+        this.jobExecutionId = jobExecutionId;
+        this.exceptionType = error.getClass().getName();
+        this.message = truncate(error.getMessage());
+        this.attempts++;
+    }
+
+    public void markReplayed() {
+        this.status = Status.REPLAYED;
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_MESSAGE_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_MESSAGE_LENGTH);
+    }
+}
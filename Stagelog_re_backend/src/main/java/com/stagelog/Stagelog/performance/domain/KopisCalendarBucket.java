@@ -0,0 +1,44 @@
+package com.stagelog.Stagelog.performance.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 월(1일) × 공연 한 행. 공연 기간이 걸친 달마다 한 행씩 미리 펼쳐 두어 캘린더 조회를 월 등호 조회 하나로 만든다.
+ * 캘린더에 필요한 컬럼은 복사해 두고, 값은 {@code KopisCalendarBucketRepository}의 native 쿼리로만 갱신한다.
+ */
+@Entity
+@Table(name = "kopis_calendar_bucket", uniqueConstraints = @UniqueConstraint(
+        name = "uk_kopis_calendar_bucket_month_performance", columnNames = {"month_start", "performance_id"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class KopisCalendarBucket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart;
+
+    @Column(name = "performance_id", nullable = false)
+    private Long performanceId;
+
+    @Column(name = "prfnm")
+    private String title;
+
+    @Column(name = "prfpdfrom", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "prfpdto", nullable = false)
+    private LocalDate endDate;
+}
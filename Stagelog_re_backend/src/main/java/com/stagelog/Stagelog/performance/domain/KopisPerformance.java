@@ -54,6 +54,9 @@ public class KopisPerformance extends BaseEntity {
     @Column(name = "genrenm")
     private String genre;
 
+    @Column(name = "content_hash", length = 64)
+    private String contentHash; // 목록 필드 기준 변경 감지용 해시
+
     @Column(name = "has_detail")
     private Boolean hasDetail = false; // 상세 정보 수집 여부
 
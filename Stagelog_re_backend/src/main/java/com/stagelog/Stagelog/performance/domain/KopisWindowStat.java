@@ -0,0 +1,52 @@
+package com.stagelog.Stagelog.performance.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 장르·월별 KOPIS 목록 행 수 추정치. 지난 수집에서 관측한 값으로 다음 수집의 조회 구간을 정한다.
+ * 값은 {@code KopisWindowStatRepository.upsert}로만 갱신한다.
+ */
+@Entity
+@Table(name = "kopis_window_stat", uniqueConstraints = @UniqueConstraint(
+        name = "uk_kopis_window_stat_category_month", columnNames = {"category", "month_start"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class KopisWindowStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "category", nullable = false, length = 10)
+    private String category;
+
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart;
+
+    @Column(name = "estimated_rows", nullable = false)
+    private long estimatedRows;
+
+    // 이번 수집에서 이 달에 대해 읽은 행 수와 일수의 누적 (나눈 구간들의 합). 이전 버전에서 만든 행은 null
+    @Column(name = "observed_rows")
+    private Long observedRows;
+
+    @Column(name = "observed_days")
+    private Integer observedDays;
+
+    @Column(name = "job_execution_id")
+    private Long jobExecutionId;
+
+    @Column(name = "observed_at", nullable = false)
+    private LocalDateTime observedAt;
+}
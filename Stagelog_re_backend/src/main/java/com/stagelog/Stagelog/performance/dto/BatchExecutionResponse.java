@@ -0,0 +1,40 @@
+package com.stagelog.Stagelog.performance.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 배치 실행 진행 상황. 카운트는 청크 커밋마다 JobRepository에 기록된 값이다.
+ * etaSeconds는 추정치이며 추정할 근거가 없으면 null이다.
+ */
+public record BatchExecutionResponse(
+        Long executionId,
+        String jobName,
+        String status,
+        String exitCode,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        long elapsedSeconds,
+        long readCount,
+        long writeCount,
+        long filterCount,
+        long skipCount,
+        double itemsPerSecond,
+        int partitionCount,
+        int completedPartitionCount,
+        Long etaSeconds,
+        List<StepProgress> steps
+) {
+    public record StepProgress(
+            String stepName,
+            String status,
+            long readCount,
+            long writeCount,
+            long filterCount,
+            long skipCount,
+            long commitCount,
+            long elapsedSeconds,
+            double itemsPerSecond
+    ) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.stagelog.Stagelog.performance.dto;
+
+import org.springframework.batch.core.JobExecution;
+
+public record BatchLaunchResponse(
+        Long executionId,
+        String jobName,
+        String status
+) {
+    public static BatchLaunchResponse from(JobExecution jobExecution) {
+        return new BatchLaunchResponse(
+                jobExecution.getId(),
+                jobExecution.getJobInstance().getJobName(),
+                jobExecution.getStatus().name()
+        );
+    }
+}
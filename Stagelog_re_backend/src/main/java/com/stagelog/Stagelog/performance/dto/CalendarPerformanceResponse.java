@@ -0,0 +1,20 @@
+package com.stagelog.Stagelog.performance.dto;
+
+import com.stagelog.Stagelog.performance.domain.KopisCalendarBucket;
+import java.time.LocalDate;
+
+public record CalendarPerformanceResponse(
+        Long id,
+        String title,
+        LocalDate startDate,
+        LocalDate endDate
+) {
+    public static CalendarPerformanceResponse from(KopisCalendarBucket bucket) {
+        return new CalendarPerformanceResponse(
+                bucket.getPerformanceId(),
+                bucket.getTitle(),
+                bucket.getStartDate(),
+                bucket.getEndDate()
+        );
+    }
+}
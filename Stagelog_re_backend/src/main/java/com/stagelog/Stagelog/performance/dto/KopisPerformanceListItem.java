@@ -2,13 +2,19 @@ package com.stagelog.Stagelog.performance.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.stagelog.Stagelog.performance.domain.KopisPerformance;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
+import java.util.HexFormat;
 import lombok.Getter;
 import lombok.Setter;
 
 @Getter
 @Setter
 public class KopisPerformanceListItem {
+    private static final String FIELD_SEPARATOR = "\u001F";
+
     private Long mcode; // 디비에서 구분용 고유 id
     private String mt20id; // 뮤지컬 고유 id
     private String prfnm; // 공연 이름
@@ -29,6 +35,24 @@ public class KopisPerformanceListItem {
                 .posterUrl(this.poster)
                 .startDate(this.prfpdfrom)
                 .endDate(this.prfpdto)
+                .contentHash(contentHash())
                 .build();
     }
+
+    /**
+     * 목록 API로 받는 필드들의 SHA-256 해시.
+     * 저장된 값과 같으면 변경이 없는 것으로 보고 쓰기를 생략한다.
+     */
+    public String contentHash() {
+        String content = String.join(FIELD_SEPARATOR,
+                mt20id, prfnm, fcltynm, prfstate, poster,
+                String.valueOf(prfpdfrom), String.valueOf(prfpdto));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to hash performance list item.", e);
+        }
+    }
 }
@@ -0,0 +1,38 @@
+package com.stagelog.Stagelog.performance.dto;
+
+import com.stagelog.Stagelog.global.exception.ErrorCode;
+import com.stagelog.Stagelog.global.exception.InvalidInputException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * keyset 조회 위치: 마지막으로 받은 행의 정렬 값과 id.
+ * 클라이언트에는 "id:정렬값"(정렬 값이 NULL이거나 없으면 "id")을 URL-safe Base64로 감싼 불투명한 문자열로 내보낸다.
+ */
+public record PerformanceCursor(Long id, String value) {
+
+    private static final String SEPARATOR = ":";
+
+    public static PerformanceCursor after(PerformanceListResponse last, PerformanceSearchCondition.SortKey sortKey) {
+        return new PerformanceCursor(last.id(), sortKey.cursorValue(last));
+    }
+
+    public static PerformanceCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                return new PerformanceCursor(Long.valueOf(raw), null);
+            }
+            return new PerformanceCursor(Long.valueOf(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidInputException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 커서입니다: " + cursor);
+        }
+    }
+
+    public String encode() {
+        // 빈 문자열 제목과 NULL을 구분하기 위해 NULL은 구분자를 붙이지 않는다
+        String raw = value == null ? String.valueOf(id) : id + SEPARATOR + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,49 @@
+package com.stagelog.Stagelog.performance.dto;
+
+import com.stagelog.Stagelog.performance.domain.KopisPerformance;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+public record PerformanceDetailResponse(
+        Long id,
+        String title,
+        String postUrl,
+        List<String> cast,
+        LocalDate startDate,
+        LocalDate endDate,
+        String runtime,
+        String dtguidance,
+        String place,
+        String ticketPrice,
+        String ticketVendor,
+        String ticketUrl
+) {
+    public static PerformanceDetailResponse from(KopisPerformance performance) {
+        return new PerformanceDetailResponse(
+                performance.getId(),
+                performance.getTitle(),
+                performance.getPosterUrl(),
+                splitCast(performance.getCast()),
+                performance.getStartDate(),
+                performance.getEndDate(),
+                performance.getRuntime(),
+                performance.getPerformanceStartTime(),
+                performance.getVenue(),
+                performance.getTicketPrice(),
+                performance.getTicketVendor(),
+                performance.getTicketUrl()
+        );
+    }
+
+    // KOPIS prfcast는 "홍길동, 김철수 등" 형태의 한 문자열이다
+    private static List<String> splitCast(String cast) {
+        if (cast == null || cast.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(cast.split(","))
+                .map(String::strip)
+                .filter(name -> !name.isEmpty())
+                .toList();
+    }
+}
@@ -0,0 +1,15 @@
+package com.stagelog.Stagelog.performance.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 공연 목록 한 줄. 엔티티 대신 목록 인덱스에 담긴 컬럼만 조회해 만든다.
+ */
+public record PerformanceListResponse(
+        Long id,
+        String title,
+        String postUrl,
+        LocalDate startDate,
+        LocalDate endDate
+) {
+}
@@ -0,0 +1,23 @@
+package com.stagelog.Stagelog.performance.dto;
+
+import java.util.List;
+
+/**
+ * keyset 조회 결과. 다음 요청에는 nextCursor를 그대로 넘긴다 (마지막이면 null).
+ */
+public record PerformanceScrollResponse(
+        List<PerformanceListResponse> content,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static PerformanceScrollResponse of(List<PerformanceListResponse> rows, int size,
+                                               PerformanceSearchCondition condition) {
+        if (rows.size() <= size) {
+            return new PerformanceScrollResponse(rows, null, false);
+        }
+
+        List<PerformanceListResponse> content = rows.subList(0, size);
+        String nextCursor = PerformanceCursor.after(content.get(size - 1), condition.sortKey()).encode();
+        return new PerformanceScrollResponse(content, nextCursor, true);
+    }
+}
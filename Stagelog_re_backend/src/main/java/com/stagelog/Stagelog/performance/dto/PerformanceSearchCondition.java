@@ -0,0 +1,86 @@
+package com.stagelog.Stagelog.performance.dto;
+
+import com.stagelog.Stagelog.global.exception.ErrorCode;
+import com.stagelog.Stagelog.global.exception.InvalidInputException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 공연 목록 조회 조건. 정렬은 허용된 키 하나 + id(동점 정렬)로만 받는다.
+ */
+public record PerformanceSearchCondition(
+        Boolean isFestival,
+        String keyword,
+        SortKey sortKey,
+        boolean descending
+) {
+    private static final Sort.Order DEFAULT_ORDER = Sort.Order.desc(SortKey.CREATED_AT.getProperty());
+
+    public static PerformanceSearchCondition of(Boolean isFestival, String keyword, Sort sort) {
+        Sort.Order order = sort.stream().findFirst().orElse(DEFAULT_ORDER);
+        String normalizedKeyword = keyword == null || keyword.isBlank() ? null : keyword.strip();
+        return new PerformanceSearchCondition(
+                isFestival,
+                normalizedKeyword,
+                SortKey.from(order.getProperty()),
+                order.isDescending()
+        );
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum SortKey {
+        START_DATE("startDate", "prfpdfrom"),
+        TITLE("title", "prfnm"),
+        CREATED_AT("createdAt", "id"); // id는 IDENTITY라 등록 순서와 같다
+
+        private final String property;
+        private final String column;
+
+        public static SortKey from(String property) {
+            return Arrays.stream(values())
+                    .filter(key -> key.property.equals(property))
+                    .findFirst()
+                    .orElseThrow(() -> new InvalidInputException(
+                            ErrorCode.INVALID_INPUT_VALUE, "지원하지 않는 정렬 기준입니다: " + property));
+        }
+
+        /**
+         * id만으로 정렬하는 키인지. 이 경우 커서의 정렬 값은 비어 있다.
+         */
+        public boolean isIdOnly() {
+            return this == CREATED_AT;
+        }
+
+        /**
+         * keyset 조회를 받쳐 주는 인덱스가 있는지. 제목 정렬은 인덱스가 없어 페이지마다 전체 정렬이 되므로 오프셋 목록만 허용한다.
+         */
+        public boolean supportsKeyset() {
+            return this != TITLE;
+        }
+
+        public String cursorValue(PerformanceListResponse row) {
+            return switch (this) {
+                case START_DATE -> row.startDate() == null ? null : row.startDate().toString();
+                case TITLE -> row.title();
+                case CREATED_AT -> null;
+            };
+        }
+
+        public Object parseCursorValue(String value) {
+            try {
+                return switch (this) {
+                    case START_DATE -> LocalDate.parse(value);
+                    case TITLE -> value;
+                    case CREATED_AT -> null;
+                };
+            } catch (DateTimeException e) {
+                throw new InvalidInputException(ErrorCode.INVALID_INPUT_VALUE, "커서와 정렬 기준이 맞지 않습니다: " + value);
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.stagelog.Stagelog.performance.event;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 수집 writer가 공연을 저장했음을 알린다. id를 아는 writer는 ids를, upsert처럼 mt20id만 아는 writer는 kopisIds를 채운다.
+ * 트랜잭션 커밋 이후에 처리되므로 롤백된 청크는 알리지 않는다.
+ */
+public record PerformanceChangedEvent(
+        List<Long> ids,
+        List<String> kopisIds
+) {
+    public static PerformanceChangedEvent ofIds(Collection<Long> ids) {
+        return new PerformanceChangedEvent(ids.stream().filter(Objects::nonNull).toList(), List.of());
+    }
+
+    public static PerformanceChangedEvent ofKopisIds(Collection<String> kopisIds) {
+        return new PerformanceChangedEvent(List.of(), List.copyOf(kopisIds));
+    }
+}
@@ -0,0 +1,92 @@
+package com.stagelog.Stagelog.performance.event;
+
+import com.stagelog.Stagelog.global.config.CacheConfig;
+import com.stagelog.Stagelog.performance.repository.KopisPerformanceRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 청크의 공연만 상세 캐시에서 지운다. 커밋 전에 지우면 다른 요청이 옛 값을 다시 캐시할 수 있다.
+ * 배치가 돈 노드가 아닌 다른 노드의 로컬 캐시는 updated_at 증분 조회로 주기적으로 비운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PerformanceDetailCacheInvalidator {
+
+    // upsert의 updated_at = NOW()는 트랜잭션 시작 시각이라, 상세 조회로 길어진 청크가 늦게 커밋돼도 놓치지 않도록 넉넉히 겹쳐 읽는다
+    private static final long SYNC_OVERLAP_SECONDS = 120;
+
+    private final CacheManager cacheManager;
+    private final KopisPerformanceRepository kopisPerformanceRepository;
+
+    @Value("${app.cache.performance-detail.sync-interval:5000}")
+    private long syncInterval;
+
+    private ScheduledExecutorService syncExecutor;
+    private volatile LocalDateTime lastSyncedAt;
+
+    @PostConstruct
+    public void init() {
+        lastSyncedAt = LocalDateTime.now();
+
+        syncExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "performance-detail-cache-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        syncExecutor.scheduleWithFixedDelay(this::sync, syncInterval, syncInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (syncExecutor != null) {
+            syncExecutor.shutdownNow();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPerformanceChanged(PerformanceChangedEvent event) {
+        Cache cache = cacheManager.getCache(CacheConfig.PERFORMANCE_DETAIL);
+        if (cache == null) {
+            return;
+        }
+
+        List<Long> ids = new ArrayList<>(event.ids());
+        if (!event.kopisIds().isEmpty()) {
+            ids.addAll(kopisPerformanceRepository.findIdsByKopisIdIn(event.kopisIds()));
+        }
+        ids.forEach(cache::evict);
+        log.debug("공연 상세 캐시 무효화: {}건", ids.size());
+    }
+
+    void sync() {
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            List<Long> ids = kopisPerformanceRepository.findIdsUpdatedSince(
+                    lastSyncedAt.minusSeconds(SYNC_OVERLAP_SECONDS));
+            Cache cache = cacheManager.getCache(CacheConfig.PERFORMANCE_DETAIL);
+            if (cache != null) {
+                ids.forEach(cache::evict);
+            }
+            lastSyncedAt = startedAt;
+        } catch (Exception e) {
+            // 다음 주기에 같은 구간부터 다시 읽는다
+            log.warn("공연 상세 캐시 동기화 실패: {}", e.getMessage());
+        }
+    }
+}
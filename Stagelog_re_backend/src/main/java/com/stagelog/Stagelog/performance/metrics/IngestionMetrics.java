@@ -0,0 +1,109 @@
+package com.stagelog.Stagelog.performance.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수집 배치 구간별 소요 시간과 처리 건수를 Micrometer로 기록한다 ({@code /actuator/prometheus}).
+ *
+ * <p>job/step 태그는 MDC({@code BatchJobMdcListener}, {@code BatchStepMdcListener})에서 읽는다.
+ * 파티션 워커 스텝 이름의 ":partitionN"은 떼어내 태그 값 수가 파티션 수만큼 늘지 않게 한다.
+ * 청크 전체의 read/process/write 시간은 Spring Batch 기본 메트릭({@code spring.batch.*})을 함께 본다.
+ */
+@Component
+@RequiredArgsConstructor
+public class IngestionMetrics {
+
+    private static final String MDC_JOB_NAME = "jobName";
+    private static final String MDC_STEP_NAME = "stepName";
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * KOPIS HTTP 호출 1회 (응답 본문 파싱 포함, 속도 제한 대기 제외).
+     */
+    public void recordKopisCall(String operation, long startNanos, boolean success) {
+        Timer.builder("kopis.api.requests")
+                .description("KOPIS API 호출 시간")
+                .tags(batchTags())
+                .tag("operation", operation)
+                .tag("outcome", success ? "success" : "error")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 공유 {@code KopisRateLimiter}에서 토큰을 기다린 시간.
+     */
+    public void recordRateLimitWait(String operation, long waitNanos) {
+        Timer.builder("kopis.ratelimit.wait")
+                .description("KOPIS 호출 한도 대기 시간")
+                .tags(batchTags())
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * DB 쓰기 시간과 쓴 건수. 비동기 Writer의 {@code spring.batch.chunk.write}에는 상세 조회 대기가 섞이므로 따로 잰다.
+     */
+    public <T> T recordDbWrite(String operation, int itemCount, Supplier<T> write) {
+        T result = Timer.builder("ingestion.db.write")
+                .description("수집 결과 DB 저장 시간")
+                .tags(batchTags())
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .record(write);
+        countItems("written", itemCount);
+        return result;
+    }
+
+    /**
+     * 청크 하나의 read → process → write → commit 전체 시간.
+     */
+    public void recordChunk(long startNanos, boolean success) {
+        Timer.builder("ingestion.chunk")
+                .description("청크 처리 시간 (커밋 포함)")
+                .tags(batchTags())
+                .tag("outcome", success ? "success" : "error")
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * stage: written, filtered, skipped
+     */
+    public void countItems(String stage, long count) {
+        if (count <= 0) {
+            return;
+        }
+        meterRegistry.counter("ingestion.items", batchTags().and("stage", stage)).increment(count);
+    }
+
+    private Tags batchTags() {
+        return Tags.of(
+                "job", valueOrNone(MDC.get(MDC_JOB_NAME)),
+                "step", valueOrNone(stripPartition(MDC.get(MDC_STEP_NAME)))
+        );
+    }
+
+    private static String stripPartition(String stepName) {
+        if (stepName == null) {
+            return null;
+        }
+        int separator = stepName.indexOf(':');
+        return separator < 0 ? stepName : stepName.substring(0, separator);
+    }
+
+    private static String valueOrNone(String value) {
+        return value == null ? NONE : value;
+    }
+}
@@ -0,0 +1,17 @@
+package com.stagelog.Stagelog.performance.repository;
+
+import com.stagelog.Stagelog.performance.domain.IngestionDeadLetter;
+import com.stagelog.Stagelog.performance.domain.IngestionDeadLetter.Stage;
+import com.stagelog.Stagelog.performance.domain.IngestionDeadLetter.Status;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface IngestionDeadLetterRepository extends JpaRepository<IngestionDeadLetter, Long> {
+
+    Optional<IngestionDeadLetter> findFirstByKopisIdAndStageAndStatus(String kopisId, Stage stage, Status status);
+
+    // 재처리 잡 keyset 조회: idx_ingestion_dead_letter_status (status, id)
+    List<IngestionDeadLetter> findByStatusAndIdGreaterThanOrderByIdAsc(Status status, Long id, Limit limit);
+}
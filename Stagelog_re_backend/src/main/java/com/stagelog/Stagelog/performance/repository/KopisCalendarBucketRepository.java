@@ -0,0 +1,66 @@
+package com.stagelog.Stagelog.performance.repository;
+
+import com.stagelog.Stagelog.performance.domain.KopisCalendarBucket;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface KopisCalendarBucketRepository extends JpaRepository<KopisCalendarBucket, Long> {
+
+    // 복합 인덱스 idx_kopis_calendar_bucket_month (month_start, prfpdfrom, performance_id) 로 index-only scan
+    List<KopisCalendarBucket> findByMonthStartOrderByStartDateAscPerformanceIdAsc(LocalDate monthStart);
+
+    // DELETE는 행을 찾는 순서대로 잠가 파티션끼리 교착될 수 있으므로, 지울 버킷을 insert와 같은
+    // (mt20id, month_start) 순으로 먼저 잠근 뒤 지운다.
+    @Modifying
+    @Query(value = """
+            DELETE FROM kopis_calendar_bucket
+            WHERE id IN (SELECT b.id
+                         FROM kopis_calendar_bucket b
+                         JOIN kopis_performance p ON p.id = b.performance_id
+                         WHERE p.mt20id IN (:kopisIds)
+                         ORDER BY p.mt20id, b.month_start
+                         FOR UPDATE OF b)
+            """, nativeQuery = true)
+    int deleteByKopisIds(@Param("kopisIds") Collection<String> kopisIds);
+
+    // 공연 기간이 걸친 달마다 한 행씩 펼쳐 넣는다.
+    // 여러 파티션이 같은 공연을 동시에 갱신할 수 있으므로 unique 제약 기준으로 덮어쓰고, delete와 같은 mt20id 순으로 잠근다.
+    @Modifying
+    @Query(value = """
+            INSERT INTO kopis_calendar_bucket (month_start, performance_id, prfnm, prfpdfrom, prfpdto)
+            SELECT CAST(m.month_start AS date), p.id, p.prfnm, p.prfpdfrom, p.prfpdto
+            FROM kopis_performance p
+            CROSS JOIN LATERAL generate_series(date_trunc('month', CAST(p.prfpdfrom AS timestamp)),
+                                               date_trunc('month', CAST(p.prfpdto AS timestamp)),
+                                               interval '1 month') AS m(month_start)
+            WHERE p.mt20id IN (:kopisIds)
+              AND p.prfpdto >= p.prfpdfrom
+            ORDER BY p.mt20id, m.month_start
+            ON CONFLICT (month_start, performance_id) DO UPDATE
+                SET prfnm = EXCLUDED.prfnm,
+                    prfpdfrom = EXCLUDED.prfpdfrom,
+                    prfpdto = EXCLUDED.prfpdto
+            """, nativeQuery = true)
+    int insertByKopisIds(@Param("kopisIds") Collection<String> kopisIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM kopis_calendar_bucket", nativeQuery = true)
+    int deleteAllBuckets();
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO kopis_calendar_bucket (month_start, performance_id, prfnm, prfpdfrom, prfpdto)
+            SELECT CAST(m.month_start AS date), p.id, p.prfnm, p.prfpdfrom, p.prfpdto
+            FROM kopis_performance p
+            CROSS JOIN LATERAL generate_series(date_trunc('month', CAST(p.prfpdfrom AS timestamp)),
+                                               date_trunc('month', CAST(p.prfpdto AS timestamp)),
+                                               interval '1 month') AS m(month_start)
+            WHERE p.prfpdto >= p.prfpdfrom
+            """, nativeQuery = true)
+    int insertAll();
+}
@@ -1,13 +1,27 @@
 package com.stagelog.Stagelog.performance.repository;
 
 import com.stagelog.Stagelog.performance.domain.KopisPerformance;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface KopisPerformanceRepository extends JpaRepository<KopisPerformance, Long> {
+public interface KopisPerformanceRepository extends JpaRepository<KopisPerformance, Long>,
+        KopisPerformanceRepositoryCustom {
     Optional<KopisPerformance> findByKopisId(String mt20id);
 
-    Page<KopisPerformance> findByHasDetailFalse(Pageable pageable);
+    // keyset 조회: 부분 인덱스 idx_kopis_performance_pending_detail (id) WHERE has_detail = false 사용
+    List<KopisPerformance> findByHasDetailFalseAndIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    long countByHasDetailFalse();
+
+    @Query("SELECT p.id FROM KopisPerformance p WHERE p.kopisId IN :kopisIds")
+    List<Long> findIdsByKopisIdIn(@Param("kopisIds") Collection<String> kopisIds);
+
+    @Query("SELECT p.id FROM KopisPerformance p WHERE p.updatedAt >= :since")
+    List<Long> findIdsUpdatedSince(@Param("since") LocalDateTime since);
 }
@@ -0,0 +1,58 @@
+package com.stagelog.Stagelog.performance.repository;
+
+import com.stagelog.Stagelog.performance.domain.KopisPerformance;
+import com.stagelog.Stagelog.performance.dto.PerformanceCursor;
+import com.stagelog.Stagelog.performance.dto.PerformanceListResponse;
+import com.stagelog.Stagelog.performance.dto.PerformanceSearchCondition;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface KopisPerformanceRepositoryCustom {
+
+    /**
+     * 목록 수집 결과를 mt20id 기준으로 한 번의 JDBC 배치로 upsert 한다.
+     * 신규 공연은 insert, 이미 있는 공연은 content_hash가 달라진 경우에만 목록 필드를 갱신한다.
+     */
+    int upsertListItems(List<? extends KopisPerformance> performances);
+
+    /**
+     * 상세 정보까지 채운 공연을 한 번에 insert 한다 (파이프라인 수집의 신규 공연).
+     * 그 사이 다른 파티션이 먼저 넣었다면 모든 필드를 덮어쓴다.
+     */
+    int upsertWithDetails(List<? extends KopisPerformance> performances);
+
+    /**
+     * 이미 저장된 공연의 mt20id → content_hash. 해시가 없는 이전 행도 키는 담는다 (값 null).
+     */
+    Map<String, String> findContentHashesByKopisIds(Collection<String> kopisIds);
+
+    /**
+     * 목록 화면용 프로젝션을 오프셋으로 조회한다. 앞쪽 페이지 전용이며 깊은 페이지는 {@link #findListItemsAfter}를 쓴다.
+     */
+    List<PerformanceListResponse> findListItems(PerformanceSearchCondition condition, long offset, int limit);
+
+    long countListItems(PerformanceSearchCondition condition);
+
+    /**
+     * cursor 다음 행부터 limit건을 keyset으로 조회한다. cursor가 null이면 처음부터.
+     */
+    List<PerformanceListResponse> findListItemsAfter(PerformanceSearchCondition condition, PerformanceCursor cursor,
+                                                     int limit);
+
+    /**
+     * 제목/출연진에 keyword가 들어가거나 제목이 비슷한 공연을 관련도 순으로 limit건 조회한다 (pg_trgm 인덱스 사용).
+     * 트라이그램은 세 글자 단위라 keyword가 세 글자 이상일 때만 인덱스를 탄다.
+     */
+    List<PerformanceListResponse> searchListItems(String keyword, int limit);
+
+    /**
+     * pg_trgm이 없을 때의 대체 검색. 제목/출연진 부분 일치만 보며 인덱스 없이 순차 탐색한다.
+     */
+    List<PerformanceListResponse> searchListItemsByPattern(String keyword, int limit);
+
+    /**
+     * 제목이 keyword로 시작하는 공연을 최근 시작일 순으로 limit건 조회한다 (1~2자 검색어용, 앞부분 btree 인덱스 사용).
+     */
+    List<PerformanceListResponse> searchListItemsByPrefix(String keyword, int limit);
+}
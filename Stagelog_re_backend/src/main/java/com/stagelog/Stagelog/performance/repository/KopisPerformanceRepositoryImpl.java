@@ -0,0 +1,361 @@
+package com.stagelog.Stagelog.performance.repository;
+
+import com.stagelog.Stagelog.performance.domain.KopisPerformance;
+import com.stagelog.Stagelog.performance.dto.PerformanceCursor;
+import com.stagelog.Stagelog.performance.dto.PerformanceListResponse;
+import com.stagelog.Stagelog.performance.dto.PerformanceSearchCondition;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+@RequiredArgsConstructor
+public class KopisPerformanceRepositoryImpl implements KopisPerformanceRepositoryCustom {
+
+    private static final String UPSERT_LIST_ITEM_SQL = """
+            INSERT INTO kopis_performance (mt20id, prfnm, fcltynm, prfstate, poster, prfpdfrom, prfpdto,
+                                           content_hash, has_detail, visit, festival, created_at, updated_at)
+            VALUES (:kopisId, :title, :venue, :status, :posterUrl, :startDate, :endDate,
+                    :contentHash, false, false, false, NOW(), NOW())
+            ON CONFLICT (mt20id)
+            DO UPDATE SET prfnm = EXCLUDED.prfnm,
+                          fcltynm = EXCLUDED.fcltynm,
+                          prfstate = EXCLUDED.prfstate,
+                          poster = EXCLUDED.poster,
+                          prfpdfrom = EXCLUDED.prfpdfrom,
+                          prfpdto = EXCLUDED.prfpdto,
+                          content_hash = EXCLUDED.content_hash,
+                          updated_at = NOW()
+            WHERE kopis_performance.content_hash IS DISTINCT FROM EXCLUDED.content_hash
+            """;
+
+    private static final String UPSERT_WITH_DETAILS_SQL = """
+            INSERT INTO kopis_performance (mt20id, prfnm, fcltynm, prfstate, poster, prfpdfrom, prfpdto,
+                                           content_hash, genrenm, has_detail, prfcast, prfruntime, pcseguidance,
+                                           area, dtguidance, visit, festival, relatenm, relateurl,
+                                           created_at, updated_at)
+            VALUES (:kopisId, :title, :venue, :status, :posterUrl, :startDate, :endDate,
+                    :contentHash, :genre, true, :cast, :runtime, :ticketPrice,
+                    :area, :performanceStartTime, :visit, :festival, :ticketVendor, :ticketUrl,
+                    NOW(), NOW())
+            ON CONFLICT (mt20id)
+            DO UPDATE SET prfnm = EXCLUDED.prfnm,
+                          fcltynm = EXCLUDED.fcltynm,
+                          prfstate = EXCLUDED.prfstate,
+                          poster = EXCLUDED.poster,
+                          prfpdfrom = EXCLUDED.prfpdfrom,
+                          prfpdto = EXCLUDED.prfpdto,
+                          content_hash = EXCLUDED.content_hash,
+                          genrenm = EXCLUDED.genrenm,
+                          has_detail = true,
+                          prfcast = EXCLUDED.prfcast,
+                          prfruntime = EXCLUDED.prfruntime,
+                          pcseguidance = EXCLUDED.pcseguidance,
+                          area = EXCLUDED.area,
+                          dtguidance = EXCLUDED.dtguidance,
+                          visit = EXCLUDED.visit,
+                          festival = EXCLUDED.festival,
+                          relatenm = EXCLUDED.relatenm,
+                          relateurl = EXCLUDED.relateurl,
+                          updated_at = NOW()
+            """;
+
+    private static final String FIND_CONTENT_HASHES_SQL = """
+            SELECT mt20id, content_hash
+            FROM kopis_performance
+            WHERE mt20id IN (:kopisIds)
+            """;
+
+    // 목록 인덱스의 INCLUDE 컬럼만 읽어 index-only scan이 가능하게 한다
+    private static final String LIST_ITEM_SQL = """
+            SELECT id, prfnm, poster, prfpdfrom, prfpdto
+            FROM kopis_performance
+            """;
+
+    private static final String COUNT_LIST_ITEM_SQL = """
+            SELECT COUNT(*)
+            FROM kopis_performance
+            """;
+
+    // 제목/출연진 부분 일치는 트라이그램 GIN 인덱스로, 오타가 섞인 제목은 word_similarity(<%)로 찾는다.
+    // 제목 부분 일치를 먼저, 그다음 유사도(출연진은 가중치를 낮춤) 순으로 정렬한다.
+    private static final String SEARCH_LIST_ITEM_SQL = """
+            SELECT id, prfnm, poster, prfpdfrom, prfpdto
+            FROM kopis_performance
+            WHERE prfnm ILIKE :pattern
+               OR prfcast ILIKE :pattern
+               OR :keyword <% prfnm
+            ORDER BY COALESCE(prfnm ILIKE :pattern, false) DESC,
+                     GREATEST(word_similarity(:keyword, prfnm),
+                              word_similarity(:keyword, COALESCE(prfcast, '')) * 0.8) DESC,
+                     prfpdfrom DESC NULLS LAST,
+                     id DESC
+            LIMIT :limit
+            """;
+
+    private static final String SEARCH_LIST_ITEM_BY_PATTERN_SQL = """
+            SELECT id, prfnm, poster, prfpdfrom, prfpdto
+            FROM kopis_performance
+            WHERE prfnm ILIKE :pattern
+               OR prfcast ILIKE :pattern
+            ORDER BY COALESCE(prfnm ILIKE :pattern, false) DESC,
+                     prfpdfrom DESC NULLS LAST,
+                     id DESC
+            LIMIT :limit
+            """;
+
+    // lower(prfnm) text_pattern_ops 인덱스와 같은 식이어야 앞부분 일치가 인덱스 범위 탐색이 된다
+    private static final String SEARCH_LIST_ITEM_BY_PREFIX_SQL = """
+            SELECT id, prfnm, poster, prfpdfrom, prfpdto
+            FROM kopis_performance
+            WHERE lower(prfnm) LIKE :prefix
+            ORDER BY prfpdfrom DESC NULLS LAST,
+                     id DESC
+            LIMIT :limit
+            """;
+
+    private static final RowMapper<PerformanceListResponse> LIST_ITEM_MAPPER = (rs, rowNum) ->
+            new PerformanceListResponse(
+                    rs.getLong("id"),
+                    rs.getString("prfnm"),
+                    rs.getString("poster"),
+                    rs.getObject("prfpdfrom", LocalDate.class),
+                    rs.getObject("prfpdto", LocalDate.class)
+            );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public int upsertListItems(List<? extends KopisPerformance> performances) {
+        if (performances.isEmpty()) {
+            return 0;
+        }
+
+        SqlParameterSource[] params = dedupeAndSort(performances).stream()
+                .map(this::toParams)
+                .toArray(SqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate(UPSERT_LIST_ITEM_SQL, params);
+        return params.length;
+    }
+
+    @Override
+    public int upsertWithDetails(List<? extends KopisPerformance> performances) {
+        if (performances.isEmpty()) {
+            return 0;
+        }
+
+        SqlParameterSource[] params = dedupeAndSort(performances).stream()
+                .map(this::toDetailParams)
+                .toArray(SqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate(UPSERT_WITH_DETAILS_SQL, params);
+        return params.length;
+    }
+
+    @Override
+    public Map<String, String> findContentHashesByKopisIds(Collection<String> kopisIds) {
+        Map<String, String> hashes = new HashMap<>();
+        if (kopisIds.isEmpty()) {
+            return hashes;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("kopisIds", kopisIds);
+
+        jdbcTemplate.query(FIND_CONTENT_HASHES_SQL, params,
+                rs -> {
+                    hashes.put(rs.getString("mt20id"), rs.getString("content_hash"));
+                });
+        return hashes;
+    }
+
+    @Override
+    public List<PerformanceListResponse> findListItems(PerformanceSearchCondition condition, long offset, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("offset", offset)
+                .addValue("limit", limit);
+
+        String sql = LIST_ITEM_SQL + where(listFilters(condition, params)) + orderBy(condition)
+                + " LIMIT :limit OFFSET :offset";
+        return jdbcTemplate.query(sql, params, LIST_ITEM_MAPPER);
+    }
+
+    @Override
+    public long countListItems(PerformanceSearchCondition condition) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+
+        Long count = jdbcTemplate.queryForObject(
+                COUNT_LIST_ITEM_SQL + where(listFilters(condition, params)), params, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public List<PerformanceListResponse> findListItemsAfter(PerformanceSearchCondition condition,
+                                                            PerformanceCursor cursor, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("limit", limit);
+
+        List<String> filters = listFilters(condition, params);
+        if (cursor != null) {
+            filters.add(seekFilter(condition, cursor, params));
+        }
+
+        String sql = LIST_ITEM_SQL + where(filters) + orderBy(condition) + " LIMIT :limit";
+        List<PerformanceListResponse> rows = jdbcTemplate.query(sql, params, LIST_ITEM_MAPPER);
+
+        // 값이 있는 구간의 행 비교는 NULL 행을 빼므로, 그 구간이 끝나면 맨 뒤의 NULL 구간을 이어 읽는다
+        boolean seekingValues = cursor != null && cursor.value() != null && !condition.sortKey().isIdOnly();
+        if (seekingValues && rows.size() < limit) {
+            rows = new ArrayList<>(rows);
+            rows.addAll(findNullSegment(condition, limit - rows.size()));
+        }
+        return rows;
+    }
+
+    private List<PerformanceListResponse> findNullSegment(PerformanceSearchCondition condition, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("limit", limit);
+
+        List<String> filters = listFilters(condition, params);
+        filters.add(condition.sortKey().getColumn() + " IS NULL");
+
+        String sql = LIST_ITEM_SQL + where(filters) + orderBy(condition) + " LIMIT :limit";
+        return jdbcTemplate.query(sql, params, LIST_ITEM_MAPPER);
+    }
+
+    @Override
+    public List<PerformanceListResponse> searchListItems(String keyword, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("keyword", keyword)
+                .addValue("pattern", "%" + escapeLike(keyword) + "%")
+                .addValue("limit", limit);
+
+        return jdbcTemplate.query(SEARCH_LIST_ITEM_SQL, params, LIST_ITEM_MAPPER);
+    }
+
+    @Override
+    public List<PerformanceListResponse> searchListItemsByPattern(String keyword, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("pattern", "%" + escapeLike(keyword) + "%")
+                .addValue("limit", limit);
+
+        return jdbcTemplate.query(SEARCH_LIST_ITEM_BY_PATTERN_SQL, params, LIST_ITEM_MAPPER);
+    }
+
+    @Override
+    public List<PerformanceListResponse> searchListItemsByPrefix(String keyword, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("prefix", escapeLike(keyword.toLowerCase(Locale.ROOT)) + "%")
+                .addValue("limit", limit);
+
+        return jdbcTemplate.query(SEARCH_LIST_ITEM_BY_PREFIX_SQL, params, LIST_ITEM_MAPPER);
+    }
+
+    /**
+     * 조건이 없는 필터는 문장에서 빼서 플래너가 (festival, prfpdfrom, id) 인덱스를 고를 수 있게 한다.
+     * 정렬 컬럼이 NULL인 행도 목록에 포함하며 정렬 방향과 상관없이 맨 뒤에 둔다.
+     */
+    private List<String> listFilters(PerformanceSearchCondition condition, MapSqlParameterSource params) {
+        List<String> filters = new ArrayList<>();
+        if (condition.isFestival() != null) {
+            filters.add("festival = :festival");
+            params.addValue("festival", condition.isFestival());
+        }
+        if (condition.keyword() != null) {
+            filters.add("(prfnm ILIKE :keyword OR prfcast ILIKE :keyword)");
+            params.addValue("keyword", "%" + escapeLike(condition.keyword()) + "%");
+        }
+        return filters;
+    }
+
+    /**
+     * (정렬 컬럼, id) 행 비교로 마지막으로 받은 행 바로 다음부터 읽는다. 페이지 깊이와 상관없이 인덱스 탐색 한 번이다.
+     * 마지막 행의 정렬 값이 NULL이면 이미 맨 뒤의 NULL 구간이므로 그 안에서 id로만 이어 읽는다.
+     */
+    private String seekFilter(PerformanceSearchCondition condition, PerformanceCursor cursor,
+                              MapSqlParameterSource params) {
+        String operator = condition.descending() ? "<" : ">";
+        params.addValue("cursorId", cursor.id());
+
+        PerformanceSearchCondition.SortKey sortKey = condition.sortKey();
+        if (sortKey.isIdOnly()) {
+            return "id " + operator + " :cursorId";
+        }
+
+        if (cursor.value() == null) {
+            return sortKey.getColumn() + " IS NULL AND id " + operator + " :cursorId";
+        }
+
+        params.addValue("cursorValue", sortKey.parseCursorValue(cursor.value()));
+        return "(" + sortKey.getColumn() + ", id) " + operator + " (:cursorValue, :cursorId)";
+    }
+
+    private String orderBy(PerformanceSearchCondition condition) {
+        String direction = condition.descending() ? " DESC" : " ASC";
+        PerformanceSearchCondition.SortKey sortKey = condition.sortKey();
+        if (sortKey.isIdOnly()) {
+            return " ORDER BY id" + direction;
+        }
+        return " ORDER BY " + sortKey.getColumn() + direction + " NULLS LAST, id" + direction;
+    }
+
+    private String where(List<String> filters) {
+        return filters.isEmpty() ? "" : " WHERE " + String.join(" AND ", filters);
+    }
+
+    private String escapeLike(String keyword) {
+        return keyword.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+    /**
+     * 같은 배치에 같은 mt20id가 두 번 들어가면 ON CONFLICT가 한 행을 두 번 갱신하려다 실패하므로 마지막 값만 남긴다.
+     * 파티션끼리 같은 공연을 동시에 쓰더라도 잠금 순서가 같도록 mt20id 순으로 정렬한다.
+     */
+    private List<KopisPerformance> dedupeAndSort(List<? extends KopisPerformance> performances) {
+        Map<String, KopisPerformance> byKopisId = new LinkedHashMap<>();
+        for (KopisPerformance performance : performances) {
+            byKopisId.put(performance.getKopisId(), performance);
+        }
+
+        return byKopisId.values().stream()
+                .sorted(Comparator.comparing(KopisPerformance::getKopisId))
+                .toList();
+    }
+
+    private SqlParameterSource toDetailParams(KopisPerformance performance) {
+        return toParams(performance)
+                .addValue("genre", performance.getGenre())
+                .addValue("cast", performance.getCast())
+                .addValue("runtime", performance.getRuntime())
+                .addValue("ticketPrice", performance.getTicketPrice())
+                .addValue("area", performance.getArea())
+                .addValue("performanceStartTime", performance.getPerformanceStartTime())
+                .addValue("visit", performance.isVisit())
+                .addValue("festival", performance.isFestival())
+                .addValue("ticketVendor", performance.getTicketVendor())
+                .addValue("ticketUrl", performance.getTicketUrl());
+    }
+
+    private MapSqlParameterSource toParams(KopisPerformance performance) {
+        return new MapSqlParameterSource()
+                .addValue("kopisId", performance.getKopisId())
+                .addValue("title", performance.getTitle())
+                .addValue("venue", performance.getVenue())
+                .addValue("status", performance.getStatus())
+                .addValue("posterUrl", performance.getPosterUrl())
+                .addValue("startDate", performance.getStartDate())
+                .addValue("endDate", performance.getEndDate())
+                .addValue("contentHash", performance.getContentHash());
+    }
+}
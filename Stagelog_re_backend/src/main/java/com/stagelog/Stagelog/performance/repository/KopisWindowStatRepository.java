@@ -0,0 +1,48 @@
+package com.stagelog.Stagelog.performance.repository;
+
+import com.stagelog.Stagelog.performance.domain.KopisWindowStat;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface KopisWindowStatRepository extends JpaRepository<KopisWindowStat, Long> {
+
+    List<KopisWindowStat> findByCategoryAndMonthStartBetween(String category, LocalDate from, LocalDate to);
+
+    // 한 달을 나눈 구간들은 서로 다른 파티션이 동시에 기록하므로, 같은 수집(job execution)이면 관측치를 더하고
+    // 이전 수집의 값이면 새로 시작한다. 추정치는 누적 관측치를 한 달 일수로 늘린 값이다.
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO kopis_window_stat (category, month_start, estimated_rows, observed_rows, observed_days,
+                                           job_execution_id, observed_at)
+            VALUES (:category, :monthStart, ROUND(CAST(:observedRows AS numeric) * :monthDays / :observedDays),
+                    :observedRows, :observedDays, :jobExecutionId, now())
+            ON CONFLICT (category, month_start) DO UPDATE
+                SET estimated_rows = CASE
+                        WHEN kopis_window_stat.job_execution_id = EXCLUDED.job_execution_id
+                            THEN ROUND(CAST(kopis_window_stat.observed_rows + EXCLUDED.observed_rows AS numeric)
+                                       * :monthDays / (kopis_window_stat.observed_days + EXCLUDED.observed_days))
+                        ELSE EXCLUDED.estimated_rows END,
+                    observed_rows = CASE
+                        WHEN kopis_window_stat.job_execution_id = EXCLUDED.job_execution_id
+                            THEN kopis_window_stat.observed_rows + EXCLUDED.observed_rows
+                        ELSE EXCLUDED.observed_rows END,
+                    observed_days = CASE
+                        WHEN kopis_window_stat.job_execution_id = EXCLUDED.job_execution_id
+                            THEN kopis_window_stat.observed_days + EXCLUDED.observed_days
+                        ELSE EXCLUDED.observed_days END,
+                    job_execution_id = EXCLUDED.job_execution_id,
+                    observed_at = EXCLUDED.observed_at
+            """, nativeQuery = true)
+    int upsert(@Param("category") String category,
+               @Param("monthStart") LocalDate monthStart,
+               @Param("monthDays") int monthDays,
+               @Param("observedRows") long observedRows,
+               @Param("observedDays") int observedDays,
+               @Param("jobExecutionId") long jobExecutionId);
+}
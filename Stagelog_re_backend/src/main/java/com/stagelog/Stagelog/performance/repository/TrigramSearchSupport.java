@@ -0,0 +1,57 @@
+package com.stagelog.Stagelog.performance.repository;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * pg_trgm 확장이 설치된 DB에서만 제목/출연진 트라이그램 인덱스를 만들고 트라이그램 검색을 켠다.
+ * 확장 설치는 superuser 권한이 필요해 애플리케이션이 하지 않는다 (DBA가 미리 CREATE EXTENSION pg_trgm).
+ * 확장이 없으면 기동은 그대로 하고 검색만 부분 일치 순차 탐색으로 대신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrigramSearchSupport {
+
+    private static final String EXTENSION_INSTALLED_SQL =
+            "SELECT EXISTS (SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm')";
+
+    // GIN 인덱스는 수집 writer의 upsert와 같은 트랜잭션에서 갱신되므로 별도 동기화가 필요 없다.
+    // 한글이 트라이그램으로 잘리려면 DB 로캘(LC_CTYPE)이 UTF-8 계열이어야 한다.
+    private static final List<String> INDEX_DDL = List.of(
+            "CREATE INDEX IF NOT EXISTS idx_kopis_performance_title_trgm"
+                    + " ON kopis_performance USING gin (prfnm gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_kopis_performance_cast_trgm"
+                    + " ON kopis_performance USING gin (prfcast gin_trgm_ops)");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean available;
+
+    /**
+     * ddl-auto와 db/indexes.sql이 끝난 뒤 실행한다. 인덱스 생성이 실패해도 기동은 막지 않는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXTENSION_INSTALLED_SQL, Boolean.class))) {
+                log.warn("pg_trgm 확장이 없어 공연 검색을 부분 일치 순차 탐색으로 대신합니다 (CREATE EXTENSION pg_trgm 필요)");
+                return;
+            }
+            INDEX_DDL.forEach(jdbcTemplate::execute);
+            available = true;
+        } catch (DataAccessException e) {
+            log.warn("트라이그램 검색 인덱스를 준비하지 못해 부분 일치 검색을 사용합니다", e);
+        }
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+}
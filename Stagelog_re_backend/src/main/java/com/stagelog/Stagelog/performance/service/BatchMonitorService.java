@@ -0,0 +1,128 @@
+package com.stagelog.Stagelog.performance.service;
+
+import com.stagelog.Stagelog.global.exception.BatchProcessException;
+import com.stagelog.Stagelog.global.exception.ErrorCode;
+import com.stagelog.Stagelog.performance.dto.BatchExecutionResponse;
+import com.stagelog.Stagelog.performance.dto.BatchExecutionResponse.StepProgress;
+import com.stagelog.Stagelog.performance.repository.KopisPerformanceRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class BatchMonitorService {
+
+    // 파티션 워커 스텝 이름은 "performanceFetchStep:partition0" 형태
+    private static final String PARTITION_SEPARATOR = ":";
+    // 매니저 스텝의 카운트는 워커 합계라 잡 합계에서 제외한다
+    private static final String MANAGER_STEP_SUFFIX = "ManagerStep";
+    private static final String DETAIL_STEP_NAME = "performanceDetailStep";
+
+    private final JobExplorer jobExplorer;
+    private final KopisPerformanceRepository kopisPerformanceRepository;
+
+    /**
+     * JobRepository에 청크 커밋마다 기록되는 StepExecution으로 진행 상황을 계산한다.
+     * ETA는 현재 단계 기준이다: 목록 파티션 진행 중이면 완료된 파티션 비율, 상세 스텝이면 남은 건수/처리량.
+     */
+    public BatchExecutionResponse getExecution(Long executionId) {
+        JobExecution jobExecution = jobExplorer.getJobExecution(executionId);
+        if (jobExecution == null) {
+            throw new BatchProcessException(ErrorCode.BATCH_EXECUTION_NOT_FOUND);
+        }
+
+        List<StepExecution> stepExecutions = jobExecution.getStepExecutions().stream()
+                .sorted(Comparator.comparing(StepExecution::getId))
+                .toList();
+        List<StepExecution> countedSteps = stepExecutions.stream()
+                .filter(step -> !step.getStepName().endsWith(MANAGER_STEP_SUFFIX))
+                .toList();
+        List<StepExecution> partitions = stepExecutions.stream()
+                .filter(step -> step.getStepName().contains(PARTITION_SEPARATOR))
+                .toList();
+        int completedPartitions = (int) partitions.stream()
+                .filter(step -> !step.getStatus().isRunning())
+                .count();
+
+        long elapsedSeconds = elapsedSeconds(jobExecution.getStartTime(), jobExecution.getEndTime());
+        long readCount = countedSteps.stream().mapToLong(StepExecution::getReadCount).sum();
+
+        return new BatchExecutionResponse(
+                jobExecution.getId(),
+                jobExecution.getJobInstance().getJobName(),
+                jobExecution.getStatus().name(),
+                jobExecution.getExitStatus().getExitCode(),
+                jobExecution.getStartTime(),
+                jobExecution.getEndTime(),
+                elapsedSeconds,
+                readCount,
+                countedSteps.stream().mapToLong(StepExecution::getWriteCount).sum(),
+                countedSteps.stream().mapToLong(StepExecution::getFilterCount).sum(),
+                countedSteps.stream().mapToLong(StepExecution::getSkipCount).sum(),
+                perSecond(readCount, elapsedSeconds),
+                partitions.size(),
+                completedPartitions,
+                jobExecution.isRunning() ? estimateRemainingSeconds(stepExecutions, partitions, completedPartitions) : null,
+                stepExecutions.stream().map(this::toProgress).toList()
+        );
+    }
+
+    private Long estimateRemainingSeconds(
+            List<StepExecution> stepExecutions,
+            List<StepExecution> partitions,
+            int completedPartitions
+    ) {
+        StepExecution detailStep = stepExecutions.stream()
+                .filter(step -> DETAIL_STEP_NAME.equals(step.getStepName()) && step.getStatus().isRunning())
+                .findFirst()
+                .orElse(null);
+        if (detailStep != null) {
+            double rate = perSecond(detailStep.getWriteCount(),
+                    elapsedSeconds(detailStep.getStartTime(), detailStep.getEndTime()));
+            return rate > 0 ? Math.round(kopisPerformanceRepository.countByHasDetailFalse() / rate) : null;
+        }
+
+        if (partitions.isEmpty() || completedPartitions == 0) {
+            return null;
+        }
+        LocalDateTime partitionStart = partitions.stream()
+                .map(StepExecution::getStartTime)
+                .min(Comparator.naturalOrder())
+                .orElse(null);
+        long partitionElapsed = elapsedSeconds(partitionStart, null);
+        return partitionElapsed * (partitions.size() - completedPartitions) / completedPartitions;
+    }
+
+    private StepProgress toProgress(StepExecution step) {
+        long elapsedSeconds = elapsedSeconds(step.getStartTime(), step.getEndTime());
+        return new StepProgress(
+                step.getStepName(),
+                step.getStatus().name(),
+                step.getReadCount(),
+                step.getWriteCount(),
+                step.getFilterCount(),
+                step.getSkipCount(),
+                step.getCommitCount(),
+                elapsedSeconds,
+                perSecond(step.getReadCount(), elapsedSeconds)
+        );
+    }
+
+    private long elapsedSeconds(LocalDateTime start, LocalDateTime end) {
+        if (start == null) {
+            return 0;
+        }
+        return Duration.between(start, end != null ? end : LocalDateTime.now()).toSeconds();
+    }
+
+    private double perSecond(long count, long seconds) {
+        return seconds > 0 ? (double) count / seconds : 0;
+    }
+}
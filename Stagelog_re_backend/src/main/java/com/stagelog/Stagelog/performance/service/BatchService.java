@@ -5,8 +5,12 @@ import com.stagelog.Stagelog.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Service;
 
@@ -14,24 +18,69 @@ import org.springframework.stereotype.Service;
 @Service
 @RequiredArgsConstructor
 public class BatchService {
+    @Qualifier("jobLauncher")
     private final JobLauncher jobLauncher;
+    @Qualifier("asyncJobLauncher")
+    private final JobLauncher asyncJobLauncher;
+    private final JobExplorer jobExplorer;
     private final ApplicationContext applicationContext;
 
+    /**
+     * 잡이 끝날 때까지 기다린다. 앞 잡의 결과가 필요한 순차 실행에서 사용한다.
+     */
     public void runJob(String jobName, String startDate) {
         try {
             Job job = applicationContext.getBean(jobName, Job.class);
+            jobLauncher.run(job, newJobParameters(startDate));
+        } catch (Exception e) {
+            log.error("배치 실행 중 오류 발생: jobName={}, startDate={}", jobName, startDate, e);
+            throw new BatchProcessException(ErrorCode.BATCH_EXECUTION_FAILED, e);
+        }
+    }
 
-            JobParametersBuilder paramsBuilder = new JobParametersBuilder()
-                    .addLong("time", System.currentTimeMillis());
+    /**
+     * 잡을 batchJobTaskExecutor에 넘기고 바로 반환한다.
+     * 진행 상황은 반환된 executionId로 {@link BatchMonitorService}에서 조회한다.
+     */
+    public JobExecution launchJob(String jobName, String startDate) {
+        try {
+            Job job = applicationContext.getBean(jobName, Job.class);
+            JobExecution jobExecution = asyncJobLauncher.run(job, newJobParameters(startDate));
+            log.info("배치 비동기 실행: jobName={}, executionId={}", jobName, jobExecution.getId());
+            return jobExecution;
+        } catch (Exception e) {
+            log.error("배치 실행 중 오류 발생: jobName={}, startDate={}", jobName, startDate, e);
+            throw new BatchProcessException(ErrorCode.BATCH_EXECUTION_FAILED, e);
+        }
+    }
 
-            if (startDate != null) {
-                paramsBuilder.addString("startDate", startDate);
-            }
+    /**
+     * 실패/중단된 JobExecution을 같은 JobParameters로 다시 실행한다.
+     * 완료되지 않은 스텝은 ExecutionContext에 저장된 체크포인트부터 이어서 처리된다.
+     */
+    public JobExecution restartJob(Long executionId) {
+        JobExecution failedExecution = jobExplorer.getJobExecution(executionId);
+        if (failedExecution == null) {
+            throw new BatchProcessException(ErrorCode.BATCH_EXECUTION_NOT_FOUND);
+        }
 
-            jobLauncher.run(job, paramsBuilder.toJobParameters());
+        String jobName = failedExecution.getJobInstance().getJobName();
+        try {
+            Job job = applicationContext.getBean(jobName, Job.class);
+            return asyncJobLauncher.run(job, failedExecution.getJobParameters());
         } catch (Exception e) {
-            log.error("배치 실행 중 오류 발생: jobName={}, startDate={}", jobName, startDate, e);
+            log.error("배치 재시작 중 오류 발생: jobName={}, executionId={}", jobName, executionId, e);
             throw new BatchProcessException(ErrorCode.BATCH_EXECUTION_FAILED, e);
         }
     }
+
+    private JobParameters newJobParameters(String startDate) {
+        JobParametersBuilder paramsBuilder = new JobParametersBuilder()
+                .addLong("time", System.currentTimeMillis());
+
+        if (startDate != null) {
+            paramsBuilder.addString("startDate", startDate);
+        }
+        return paramsBuilder.toJobParameters();
+    }
 }
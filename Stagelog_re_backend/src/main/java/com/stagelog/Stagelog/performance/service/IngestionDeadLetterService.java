@@ -0,0 +1,38 @@
+package com.stagelog.Stagelog.performance.service;
+
+import com.stagelog.Stagelog.performance.domain.IngestionDeadLetter;
+import com.stagelog.Stagelog.performance.domain.IngestionDeadLetter.Stage;
+import com.stagelog.Stagelog.performance.domain.IngestionDeadLetter.Status;
+import com.stagelog.Stagelog.performance.repository.IngestionDeadLetterRepository;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IngestionDeadLetterService {
+
+    private final IngestionDeadLetterRepository ingestionDeadLetterRepository;
+
+    /**
+     * 같은 공연·단계의 미처리 항목이 있으면 시도 횟수만 늘리고, 없으면 새로 남긴다.
+     * 스킵 리스너는 청크 트랜잭션 안에서 호출되므로 청크가 롤백되면 기록도 함께 롤백된다.
+     */
+    @Transactional
+    public void record(String kopisId, Stage stage, String stepName, Long jobExecutionId, Throwable error) {
+        log.warn("수집 항목 스킵: mt20id={}, stage={}, step={}, error={}", kopisId, stage, stepName, error.toString());
+
+        if (kopisId != null) {
+            Optional<IngestionDeadLetter> pending = ingestionDeadLetterRepository.findFirstByKopisIdAndStageAndStatus(
+                    kopisId, stage, Status.PENDING);
+            if (pending.isPresent()) {
+                pending.get().recordFailure(stepName, jobExecutionId, error);
+                return;
+            }
+        }
+        ingestionDeadLetterRepository.save(IngestionDeadLetter.of(kopisId, stage, stepName, jobExecutionId, error));
+    }
+}
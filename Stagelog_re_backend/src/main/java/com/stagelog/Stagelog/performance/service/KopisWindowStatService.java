@@ -0,0 +1,49 @@
+package com.stagelog.Stagelog.performance.service;
+
+import com.stagelog.Stagelog.performance.domain.KopisWindowStat;
+import com.stagelog.Stagelog.performance.repository.KopisWindowStatRepository;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KopisWindowStatService {
+
+    private final KopisWindowStatRepository kopisWindowStatRepository;
+
+    /**
+     * 월 시작일(1일) → 추정 행 수. 관측한 적 없는 달은 포함되지 않는다.
+     */
+    public Map<LocalDate, Long> findMonthEstimates(String category, LocalDate from, LocalDate to) {
+        return kopisWindowStatRepository
+                .findByCategoryAndMonthStartBetween(category, from.withDayOfMonth(1), to.withDayOfMonth(1))
+                .stream()
+                .collect(Collectors.toMap(KopisWindowStat::getMonthStart, KopisWindowStat::getEstimatedRows));
+    }
+
+    /**
+     * 구간 하나에서 읽은 행 수를 구간이 걸친 달마다 겹친 일수만큼 나눠 기록한다.
+     * 한 달을 나눈 구간들은 같은 수집 안에서 행 수와 일수가 누적되므로 마지막 구간이 앞 구간을 덮어쓰지 않는다.
+     * 한 달 중 일부만 읽었으면 읽은 일수의 밀도로 한 달치를 추정한다.
+     */
+    public void recordWindow(long jobExecutionId, String category, LocalDate start, LocalDate end, long rows) {
+        double rowsPerDay = (double) rows / (ChronoUnit.DAYS.between(start, end) + 1);
+
+        for (LocalDate month = start.withDayOfMonth(1); !month.isAfter(end); month = month.plusMonths(1)) {
+            LocalDate from = start.isAfter(month) ? start : month;
+            LocalDate monthEnd = month.withDayOfMonth(month.lengthOfMonth());
+            LocalDate to = end.isBefore(monthEnd) ? end : monthEnd;
+            int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+
+            kopisWindowStatRepository.upsert(category, month, month.lengthOfMonth(),
+                    Math.round(rowsPerDay * days), days, jobExecutionId);
+        }
+        log.debug("구간 통계 기록: {} {} ~ {}, {}건", category, start, end, rows);
+    }
+}
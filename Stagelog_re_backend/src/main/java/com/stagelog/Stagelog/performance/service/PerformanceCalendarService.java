@@ -0,0 +1,69 @@
+package com.stagelog.Stagelog.performance.service;
+
+import com.stagelog.Stagelog.global.exception.ErrorCode;
+import com.stagelog.Stagelog.global.exception.InvalidInputException;
+import com.stagelog.Stagelog.performance.dto.CalendarPerformanceResponse;
+import com.stagelog.Stagelog.performance.repository.KopisCalendarBucketRepository;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 월별 캘린더 버킷(kopis_calendar_bucket)을 관리한다.
+ * 수집 writer가 청크를 쓸 때마다 그 공연들의 버킷만 다시 펼치므로, 조회는 월 하나의 인덱스 조회로 끝난다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PerformanceCalendarService {
+
+    private final KopisCalendarBucketRepository kopisCalendarBucketRepository;
+
+    public List<CalendarPerformanceResponse> getMonth(int year, int month) {
+        LocalDate monthStart = toMonthStart(year, month);
+        return kopisCalendarBucketRepository.findByMonthStartOrderByStartDateAscPerformanceIdAsc(monthStart)
+                .stream()
+                .map(CalendarPerformanceResponse::from)
+                .toList();
+    }
+
+    /**
+     * 방금 저장한 공연들의 버킷을 지우고 현재 기간 기준으로 다시 넣는다.
+     * writer의 청크 트랜잭션에 합류하므로 공연 저장과 버킷 갱신이 함께 커밋/롤백된다.
+     */
+    @Transactional
+    public void refresh(Collection<String> kopisIds) {
+        if (kopisIds.isEmpty()) {
+            return;
+        }
+        kopisCalendarBucketRepository.deleteByKopisIds(kopisIds);
+        int buckets = kopisCalendarBucketRepository.insertByKopisIds(kopisIds);
+        log.debug("캘린더 버킷 갱신: 공연 {}건, 버킷 {}건", kopisIds.size(), buckets);
+    }
+
+    /**
+     * 버킷 전체를 공연 테이블에서 다시 만든다. 최초 도입이나 수동 복구용.
+     */
+    @Transactional
+    public int rebuild() {
+        kopisCalendarBucketRepository.deleteAllBuckets();
+        int buckets = kopisCalendarBucketRepository.insertAll();
+        log.info("캘린더 버킷 전체 재생성: {}건", buckets);
+        return buckets;
+    }
+
+    private LocalDate toMonthStart(int year, int month) {
+        try {
+            return YearMonth.of(year, month).atDay(1);
+        } catch (DateTimeException e) {
+            throw new InvalidInputException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 연월입니다: " + year + "-" + month);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.stagelog.Stagelog.performance.service;
+
+import com.stagelog.Stagelog.global.config.CacheConfig;
+import com.stagelog.Stagelog.global.dto.PageResponse;
+import com.stagelog.Stagelog.global.exception.EntityNotFoundException;
+import com.stagelog.Stagelog.global.exception.ErrorCode;
+import com.stagelog.Stagelog.global.exception.InvalidInputException;
+import com.stagelog.Stagelog.performance.dto.PerformanceCursor;
+import com.stagelog.Stagelog.performance.dto.PerformanceDetailResponse;
+import com.stagelog.Stagelog.performance.dto.PerformanceListResponse;
+import com.stagelog.Stagelog.performance.dto.PerformanceScrollResponse;
+import com.stagelog.Stagelog.performance.dto.PerformanceSearchCondition;
+import com.stagelog.Stagelog.performance.repository.KopisPerformanceRepository;
+import com.stagelog.Stagelog.performance.repository.TrigramSearchSupport;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PerformanceQueryService {
+
+    private static final int MAX_SEARCH_SIZE = 50;
+    // 트라이그램은 세 글자 단위라 이보다 짧은 검색어는 인덱스로 거를 수 없다
+    private static final int TRIGRAM_MIN_KEYWORD_LENGTH = 3;
+
+    private final KopisPerformanceRepository kopisPerformanceRepository;
+    private final TrigramSearchSupport trigramSearchSupport;
+
+    /**
+     * 페이지 번호 기반 목록. 마지막 페이지를 이미 알 수 있으면 count 쿼리를 생략한다.
+     */
+    public PageResponse<PerformanceListResponse> getPerformances(Boolean isFestival, String keyword,
+                                                                 Pageable pageable) {
+        PerformanceSearchCondition condition = PerformanceSearchCondition.of(isFestival, keyword, pageable.getSort());
+
+        List<PerformanceListResponse> content = kopisPerformanceRepository.findListItems(
+                condition, pageable.getOffset(), pageable.getPageSize());
+        return PageResponse.from(PageableExecutionUtils.getPage(
+                content, pageable, () -> kopisPerformanceRepository.countListItems(condition)));
+    }
+
+    /**
+     * keyset 기반 목록 (무한 스크롤, 깊은 페이지). 한 건을 더 읽어 다음 페이지 여부를 판단하고 count는 하지 않는다.
+     */
+    public PerformanceScrollResponse scrollPerformances(Boolean isFestival, String keyword, String cursor,
+                                                        Pageable pageable) {
+        PerformanceSearchCondition condition = PerformanceSearchCondition.of(isFestival, keyword, pageable.getSort());
+        if (!condition.sortKey().supportsKeyset()) {
+            throw new InvalidInputException(ErrorCode.INVALID_INPUT_VALUE,
+                    "이어 읽기를 지원하지 않는 정렬 기준입니다: " + condition.sortKey().getProperty());
+        }
+        PerformanceCursor after = cursor == null || cursor.isBlank() ? null : PerformanceCursor.decode(cursor);
+
+        List<PerformanceListResponse> rows = kopisPerformanceRepository.findListItemsAfter(
+                condition, after, pageable.getPageSize() + 1);
+        return PerformanceScrollResponse.of(rows, pageable.getPageSize(), condition);
+    }
+
+    /**
+     * 검색창 자동완성용 관련도 순 검색. 빈 검색어는 DB를 조회하지 않는다.
+     * 1~2자는 제목 앞부분 일치로, pg_trgm이 없는 DB는 부분 일치 순차 탐색으로 대신한다.
+     */
+    public List<PerformanceListResponse> searchPerformances(String keyword, int size) {
+        if (keyword == null || keyword.isBlank()) {
+            return List.of();
+        }
+        String stripped = keyword.strip();
+        int limit = Math.min(Math.max(size, 1), MAX_SEARCH_SIZE);
+        if (stripped.length() < TRIGRAM_MIN_KEYWORD_LENGTH) {
+            return kopisPerformanceRepository.searchListItemsByPrefix(stripped, limit);
+        }
+        if (!trigramSearchSupport.isAvailable()) {
+            return kopisPerformanceRepository.searchListItemsByPattern(stripped, limit);
+        }
+        return kopisPerformanceRepository.searchListItems(stripped, limit);
+    }
+
+    /**
+     * 상세는 수집 배치에서만 바뀌므로 캐시에서 읽는다. 배치가 공연을 저장하면
+     * {@code PerformanceDetailCacheInvalidator}가 커밋 직후 해당 id만 지운다.
+     */
+    @Cacheable(cacheNames = CacheConfig.PERFORMANCE_DETAIL, key = "#id")
+    public PerformanceDetailResponse getPerformance(Long id) {
+        return kopisPerformanceRepository.findById(id)
+                .map(PerformanceDetailResponse::from)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.PERFORMANCE_NOT_FOUND));
+    }
+}
@@ -25,7 +25,7 @@ public class UserController {
     @GetMapping("/me")
     public ResponseEntity<UserProfileResponse> getMyProfile(
             @AuthenticationPrincipal CustomUserDetails userDetails) {
-        Long id = userDetails.getUser().getId();
+        Long id = userDetails.getUserId();
         return ResponseEntity.ok(userService.getMyProfile(id));
     }
 
@@ -33,14 +33,14 @@ public class UserController {
     public ResponseEntity<UserProfileResponse> updateMyProfile(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @Valid @RequestBody UserUpdateRequest request) {
-        Long id = userDetails.getUser().getId();
+        Long id = userDetails.getUserId();
         return ResponseEntity.ok(userService.updateProfile(id, request));
     }
 
     @DeleteMapping("/me")
     public ResponseEntity<Void> deleteMyAccount(
             @AuthenticationPrincipal CustomUserDetails userDetails) {
-        Long id = userDetails.getUser().getId();
+        Long id = userDetails.getUserId();
         userService.deleteUser(id);
         return ResponseEntity.noContent().build();
     }
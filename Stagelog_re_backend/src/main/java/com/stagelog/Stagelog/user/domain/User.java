@@ -3,6 +3,8 @@ package com.stagelog.Stagelog.user.domain;
 import com.stagelog.Stagelog.global.entity.BaseEntity;
 import com.stagelog.Stagelog.global.exception.ErrorCode;
 import com.stagelog.Stagelog.global.exception.InvalidInputException;
+import com.stagelog.Stagelog.user.event.UserChangedEvent;
+import com.stagelog.Stagelog.user.event.UserTokenRevokedEvent;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -11,13 +13,20 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.regex.Pattern;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.Check;
+import org.hibernate.annotations.ColumnDefault;
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
 
 @Entity
 @Getter
@@ -78,6 +87,16 @@ public class User extends BaseEntity {
     @Column(name = "is_social", nullable = false)
     private Boolean isSocial;
 
+    // access token에 담기는 버전. 정지/탈퇴 시 올려서 이전에 발급된 access token을 모두 무효화한다
+    @ColumnDefault("0")
+    @Column(name = "token_version", nullable = false)
+    private int tokenVersion;
+
+    // UserRepository.save 시 발행되는 도메인 이벤트 (인증 캐시 무효화용)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private final List<Object> domainEvents = new ArrayList<>();
+
     public static User createSocialUser(
             String email,
             String nickname,
@@ -143,18 +162,42 @@ public class User extends BaseEntity {
         if (emailNotificationEnabled != null) {
             this.emailNotificationEnabled = emailNotificationEnabled;
         }
+        registerChanged();
     }
 
     public void delete() {
         this.status = UserStatus.DELETED;
+        revokeTokens();
     }
 
     public void suspend() {
         this.status = UserStatus.SUSPENDED;
+        revokeTokens();
     }
 
     public void activate() {
         this.status = UserStatus.ACTIVE;
+        registerChanged();
+    }
+
+    @DomainEvents
+    Collection<Object> domainEvents() {
+        return List.copyOf(domainEvents);
+    }
+
+    @AfterDomainEventPublication
+    void clearDomainEvents() {
+        domainEvents.clear();
+    }
+
+    private void revokeTokens() {
+        this.tokenVersion++;
+        domainEvents.add(new UserTokenRevokedEvent(id, tokenVersion));
+        registerChanged();
+    }
+
+    private void registerChanged() {
+        domainEvents.add(new UserChangedEvent(id, email));
     }
 
     private static void validateEmail(String email) {
@@ -0,0 +1,10 @@
+package com.stagelog.Stagelog.user.event;
+
+/**
+ * 인증 principal에 영향을 줄 수 있는 사용자 변경 (프로필 수정, 정지, 탈퇴, 활성화).
+ */
+public record UserChangedEvent(
+        Long userId,
+        String email
+) {
+}
@@ -0,0 +1,10 @@
+package com.stagelog.Stagelog.user.event;
+
+/**
+ * 사용자의 access token 버전이 올라갔다 (정지, 탈퇴). tokenVersion 미만으로 발급된 토큰은 더 이상 인증되지 않는다.
+ */
+public record UserTokenRevokedEvent(
+        Long userId,
+        int tokenVersion
+) {
+}
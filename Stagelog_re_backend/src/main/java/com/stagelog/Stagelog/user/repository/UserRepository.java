@@ -2,8 +2,14 @@ package com.stagelog.Stagelog.user.repository;
 
 import com.stagelog.Stagelog.user.domain.Provider;
 import com.stagelog.Stagelog.user.domain.User;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
@@ -17,4 +23,21 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByUserId(String userId);
 
     boolean existsByProviderAndProviderId(Provider provider, String providerId);
+
+    // 로그인 성공 시각만 갱신한다 (updated_at은 건드리지 않아 캐시 무효화 대상이 되지 않는다)
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.lastLoginAt = :loggedInAt WHERE u.id = :id")
+    void updateLastLoginAt(@Param("id") Long id, @Param("loggedInAt") LocalDateTime loggedInAt);
+
+    // 토큰을 무효화한 적 있는 사용자만 (token_version > 0)
+    @Query("SELECT u.id AS id, u.tokenVersion AS tokenVersion FROM User u WHERE u.tokenVersion > 0")
+    List<UserTokenVersion> findRevokedTokenVersions();
+
+    @Query("SELECT u.id AS id, u.tokenVersion AS tokenVersion FROM User u "
+            + "WHERE u.tokenVersion > 0 AND u.updatedAt >= :since")
+    List<UserTokenVersion> findRevokedTokenVersionsUpdatedSince(@Param("since") LocalDateTime since);
+
+    @Query("SELECT u.email FROM User u WHERE u.email IS NOT NULL AND u.updatedAt >= :since")
+    List<String> findEmailsUpdatedSince(@Param("since") LocalDateTime since);
 }
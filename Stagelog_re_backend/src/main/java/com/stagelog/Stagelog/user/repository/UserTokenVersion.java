@@ -0,0 +1,8 @@
+package com.stagelog.Stagelog.user.repository;
+
+public interface UserTokenVersion {
+
+    Long getId();
+
+    int getTokenVersion();
+}
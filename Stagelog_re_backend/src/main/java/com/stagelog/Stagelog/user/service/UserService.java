@@ -60,6 +60,7 @@ public class UserService {
                 request.getProfileImageUrl(),
                 request.getEmailNotificationEnabled()
         );
+        userRepository.save(user);
         return UserProfileResponse.from(user);
     }
 
@@ -67,17 +68,20 @@ public class UserService {
     public void deleteUser(Long userId) {
         User user = getUserById(userId);
         user.delete();
+        userRepository.save(user);
     }
 
     @Transactional
     public void suspendUser(Long userId) {
         User user = getUserById(userId);
         user.suspend();
+        userRepository.save(user);
     }
 
     @Transactional
     public void activateUser(Long userId) {
         User user = getUserById(userId);
         user.activate();
+        userRepository.save(user);
     }
 }
@@ -0,0 +1,55 @@
+-- JPA ddl-auto(update)가 테이블을 만든 뒤 실행된다 (spring.jpa.defer-datasource-initialization)
+-- 모든 문장은 여러 번 실행해도 안전해야 한다.
+
+-- 상세 수집 대기 공연 keyset 조회용 부분 인덱스 (has_detail = false 인 행만 포함)
+CREATE INDEX IF NOT EXISTS idx_kopis_performance_pending_detail
+    ON kopis_performance (id)
+    WHERE has_detail = false;
+
+-- 공연 목록 (GET /api/performances) 용 복합 인덱스.
+-- 목록 컬럼을 INCLUDE 해 두면 정렬 + 페이지 조회가 index-only scan으로 끝난다.
+CREATE INDEX IF NOT EXISTS idx_kopis_performance_festival_start
+    ON kopis_performance (festival, prfpdfrom, id)
+    INCLUDE (prfnm, poster, prfpdto);
+
+-- festival 필터 없이 시작일로 정렬할 때
+CREATE INDEX IF NOT EXISTS idx_kopis_performance_start
+    ON kopis_performance (prfpdfrom, id)
+    INCLUDE (prfnm, poster, prfpdto);
+
+-- 시작일 역순. 정렬 값이 NULL인 공연은 방향과 상관없이 맨 뒤(NULLS LAST)라서
+-- 오름차순 인덱스를 거꾸로 읽으면(NULLS FIRST) 순서가 맞지 않아 따로 둔다.
+CREATE INDEX IF NOT EXISTS idx_kopis_performance_festival_start_desc
+    ON kopis_performance (festival, prfpdfrom DESC NULLS LAST, id DESC)
+    INCLUDE (prfnm, poster, prfpdto);
+
+CREATE INDEX IF NOT EXISTS idx_kopis_performance_start_desc
+    ON kopis_performance (prfpdfrom DESC NULLS LAST, id DESC)
+    INCLUDE (prfnm, poster, prfpdto);
+
+-- 최신 등록순 (id 역순) + festival 필터
+CREATE INDEX IF NOT EXISTS idx_kopis_performance_festival_id
+    ON kopis_performance (festival, id);
+
+-- 다른 노드의 공연 상세 캐시 무효화 (updated_at 증분 조회)
+CREATE INDEX IF NOT EXISTS idx_kopis_performance_updated_at
+    ON kopis_performance (updated_at);
+
+-- 트라이그램으로 찾을 수 없는 1~2자 검색어의 제목 앞부분 일치 (lower(prfnm) LIKE 'kw%')
+CREATE INDEX IF NOT EXISTS idx_kopis_performance_title_prefix
+    ON kopis_performance (lower(prfnm) text_pattern_ops);
+
+-- 제목/출연진 트라이그램 인덱스는 pg_trgm 확장이 필요해 여기서 만들지 않는다.
+-- 확장은 DBA가 미리 설치하고(CREATE EXTENSION pg_trgm), 인덱스는 TrigramSearchSupport가 기동 시 만든다.
+
+-- 캘린더 조회 (GET /api/performances/calendar): 월 등호 조회 + 시작일 정렬을 index-only scan으로 처리
+CREATE INDEX IF NOT EXISTS idx_kopis_calendar_bucket_month
+    ON kopis_calendar_bucket (month_start, prfpdfrom, performance_id)
+    INCLUDE (id, prfnm, prfpdto);
+
+-- 로그아웃 토큰 목록: 다른 노드의 증분 동기화(created_at)와 만료 정리(expires_at)
+CREATE INDEX IF NOT EXISTS idx_revoked_access_tokens_created_at
+    ON revoked_access_tokens (created_at);
+
+CREATE INDEX IF NOT EXISTS idx_revoked_access_tokens_expires_at
+    ON revoked_access_tokens (expires_at);
@@ -19,7 +19,7 @@ import com.stagelog.Stagelog.global.jwt.JwtTokenProvider;
 import com.stagelog.Stagelog.global.jwt.RefreshTokenHasher;
 import com.stagelog.Stagelog.global.jwt.domain.RefreshToken;
 import com.stagelog.Stagelog.global.jwt.repository.RefreshTokenRepository;
-import com.stagelog.Stagelog.user.domain.Role;
+import com.stagelog.Stagelog.global.security.AccessTokenDenylist;
 import com.stagelog.Stagelog.user.domain.User;
 import com.stagelog.Stagelog.user.domain.UserStatus;
 import com.stagelog.Stagelog.user.repository.UserRepository;
@@ -46,9 +46,13 @@ class AuthServiceLoginTest {
     @Mock
     private PasswordEncoder passwordEncoder;
     @Mock
+    private PasswordVerifier passwordVerifier;
+    @Mock
     private LoginAttemptService loginAttemptService;
     @Mock
     private AuthTokenIssuer authTokenIssuer;
+    @Mock
+    private AccessTokenDenylist accessTokenDenylist;
 
     private AuthService authService;
 
@@ -64,8 +68,10 @@ class AuthServiceLoginTest {
                 refreshTokenHasher,
                 refreshTokenRepository,
                 passwordEncoder,
+                passwordVerifier,
                 loginAttemptService,
-                authTokenIssuer
+                authTokenIssuer,
+                accessTokenDenylist
         );
     }
 
@@ -98,7 +104,7 @@ class AuthServiceLoginTest {
         User user = mock(User.class);
         when(user.getPassword()).thenReturn("encoded-password");
         when(userRepository.findByUserId("user1")).thenReturn(Optional.of(user));
-        when(passwordEncoder.matches("wrong-password", "encoded-password")).thenReturn(false);
+        when(passwordVerifier.matches("wrong-password", "encoded-password")).thenReturn(false);
 
         assertThatThrownBy(() -> authService.login(request, "127.0.0.1"))
                 .isInstanceOf(UnauthorizedException.class)
@@ -133,7 +139,7 @@ class AuthServiceLoginTest {
         verify(loginAttemptService).validateNotLocked("social-user", "127.0.0.1");
         verify(loginAttemptService).recordFailure("social-user", "127.0.0.1");
         verify(loginAttemptService, never()).clearFailures("social-user", "127.0.0.1");
-        verify(passwordEncoder, never()).matches("any-password", null);
+        verify(passwordVerifier, never()).matches("any-password", null);
     }
 
     @Test
@@ -147,7 +153,7 @@ class AuthServiceLoginTest {
         when(user.getPassword()).thenReturn("encoded-password");
         when(user.getStatus()).thenReturn(UserStatus.SUSPENDED);
         when(userRepository.findByUserId("suspended-user")).thenReturn(Optional.of(user));
-        when(passwordEncoder.matches("correct-password", "encoded-password")).thenReturn(true);
+        when(passwordVerifier.matches("correct-password", "encoded-password")).thenReturn(true);
 
         assertThatThrownBy(() -> authService.login(request, "127.0.0.1"))
                 .isInstanceOf(UnauthorizedException.class)
@@ -159,7 +165,7 @@ class AuthServiceLoginTest {
         verify(loginAttemptService).validateNotLocked("suspended-user", "127.0.0.1");
         verify(loginAttemptService, never()).recordFailure("suspended-user", "127.0.0.1");
         verify(loginAttemptService, never()).clearFailures("suspended-user", "127.0.0.1");
-        verify(user, never()).updateLastLoginAt();
+        verify(userRepository, never()).updateLastLoginAt(any(), any());
         verify(authTokenIssuer, never()).issueFor(any());
     }
 
@@ -202,12 +208,11 @@ class AuthServiceLoginTest {
         when(jwtTokenProvider.getEmail(oldRefreshToken)).thenReturn(email);
         when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
         when(user.getStatus()).thenReturn(UserStatus.ACTIVE);
-        when(user.getRole()).thenReturn(Role.USER);
         when(user.getId()).thenReturn(1L);
         when(user.getEmail()).thenReturn(email);
         when(user.getNickname()).thenReturn("tester");
         // AuthTokenIssuer.createTokenPair()은 package-private — 같은 패키지에서 stubbing 가능
-        when(authTokenIssuer.createTokenPair(email, Role.USER.getValue()))
+        when(authTokenIssuer.createTokenPair(user))
                 .thenReturn(new TokenPairWithHash("new-access-token", newRefreshToken, newRefreshHash));
 
         AuthTokenResult result = authService.refresh(oldRefreshToken);
@@ -0,0 +1,70 @@
+package com.stagelog.Stagelog.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.stagelog.Stagelog.global.exception.ErrorCode;
+import com.stagelog.Stagelog.global.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class PasswordVerifierTest {
+
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordVerifier passwordVerifier;
+
+    @BeforeEach
+    void setUp() {
+        PasswordVerifierProperties properties = new PasswordVerifierProperties();
+        properties.setThreads(1);
+        properties.setQueueCapacity(1);
+        passwordVerifier = new PasswordVerifier(passwordEncoder, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordVerifier.shutdown();
+    }
+
+    @Test
+    @DisplayName("전용 스레드에서 비교한 결과를 돌려주고 소요 시간을 기록한다")
+    void matches_delegatesAndRecordsLatency() {
+        when(passwordEncoder.matches("raw", "encoded")).thenReturn(true);
+
+        assertThat(passwordVerifier.matches("raw", "encoded")).isTrue();
+        assertThat(meterRegistry.get("auth.password.verify").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실행 중인 비교와 대기열이 모두 차 있으면 기다리지 않고 429로 거절한다")
+    void matches_saturated_failsFastWithTooManyRequests() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(passwordEncoder.matches("slow", "encoded")).thenAnswer(invocation -> release.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> passwordVerifier.matches("slow", "encoded"));
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> passwordVerifier.matches("slow", "encoded"));
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (passwordVerifier.queueDepth() < 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThatThrownBy(() -> passwordVerifier.matches("slow", "encoded"))
+                .isInstanceOf(TooManyRequestsException.class)
+                .extracting(e -> ((TooManyRequestsException) e).getErrorCode())
+                .isEqualTo(ErrorCode.AUTH_LOGIN_BUSY);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,65 @@
+package com.stagelog.Stagelog.global.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.jsonwebtoken.io.Encoders;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = Encoders.BASE64.encode(
+            "stagelog-test-secret-key-0123456789abcdef".getBytes(StandardCharsets.UTF_8));
+
+    private JwtProperties jwtProperties;
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+        jwtProperties.setAccessTokenValidity(3_600_000L);
+        jwtProperties.setRefreshTokenValidity(1_209_600_000L);
+        jwtTokenProvider = new JwtTokenProvider(jwtProperties, null);
+        jwtTokenProvider.init();
+    }
+
+    @Test
+    @DisplayName("access token을 한 번 검증하면 타입과 email을 claims에서 바로 꺼낸다")
+    void validate_accessToken_exposesClaims() {
+        String token = jwtTokenProvider.createAccessToken(1L, "user@example.com", "ROLE_USER", 0);
+
+        ValidatedToken validatedToken = jwtTokenProvider.validate(token);
+
+        assertThat(validatedToken.isValid()).isTrue();
+        assertThat(validatedToken.isAccessToken()).isTrue();
+        assertThat(validatedToken.isRefreshToken()).isFalse();
+        assertThat(validatedToken.getEmail()).isEqualTo("user@example.com");
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 EXPIRED이고 access token으로 인정하지 않는다")
+    void validate_expiredToken_returnsExpired() {
+        jwtProperties.setAccessTokenValidity(-1_000L);
+        String token = jwtTokenProvider.createAccessToken(1L, "user@example.com", "ROLE_USER", 0);
+
+        ValidatedToken validatedToken = jwtTokenProvider.validate(token);
+
+        assertThat(validatedToken.result()).isEqualTo(JwtTokenProvider.TokenValidationResult.EXPIRED);
+        assertThat(validatedToken.isAccessToken()).isFalse();
+    }
+
+    @Test
+    @DisplayName("서명이 다른 토큰은 INVALID이고 claims가 없다")
+    void validate_tamperedToken_returnsInvalid() {
+        String token = jwtTokenProvider.createAccessToken(1L, "user@example.com", "ROLE_USER", 0);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        ValidatedToken validatedToken = jwtTokenProvider.validate(tampered);
+
+        assertThat(validatedToken.result()).isEqualTo(JwtTokenProvider.TokenValidationResult.INVALID);
+        assertThat(validatedToken.getEmail()).isNull();
+    }
+}
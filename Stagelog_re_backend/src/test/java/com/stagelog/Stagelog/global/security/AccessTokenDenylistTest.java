@@ -0,0 +1,68 @@
+package com.stagelog.Stagelog.global.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.stagelog.Stagelog.global.jwt.JwtProperties;
+import com.stagelog.Stagelog.global.jwt.JwtTokenProvider;
+import com.stagelog.Stagelog.global.jwt.ValidatedToken;
+import com.stagelog.Stagelog.global.jwt.repository.RevokedAccessTokenRepository;
+import io.jsonwebtoken.io.Encoders;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AccessTokenDenylistTest {
+
+    private final RevokedAccessTokenRepository repository = mock(RevokedAccessTokenRepository.class);
+    private JwtTokenProvider jwtTokenProvider;
+    private AccessTokenDenylist accessTokenDenylist;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(Encoders.BASE64.encode(
+                "stagelog-test-secret-key-0123456789abcdef".getBytes(StandardCharsets.UTF_8)));
+        jwtProperties.setAccessTokenValidity(3_600_000L);
+        jwtProperties.setRefreshTokenValidity(1_209_600_000L);
+        jwtTokenProvider = new JwtTokenProvider(jwtProperties, null);
+        jwtTokenProvider.init();
+
+        when(repository.findActiveJtis(any())).thenReturn(List.of());
+        accessTokenDenylist = new AccessTokenDenylist(repository, jwtProperties, new SimpleMeterRegistry());
+        accessTokenDenylist.rebuild();
+    }
+
+    @Test
+    @DisplayName("무효화하지 않은 토큰은 DB를 조회하지 않고 통과한다")
+    void isRevoked_notRevoked_skipsDatabase() {
+        assertThat(accessTokenDenylist.isRevoked(accessToken())).isFalse();
+
+        verify(repository, never()).existsByJti(anyString());
+    }
+
+    @Test
+    @DisplayName("로그아웃한 토큰은 필터에 걸린 뒤 DB에서 확인해 거부한다")
+    void isRevoked_afterRevoke_confirmsWithDatabase() {
+        ValidatedToken token = accessToken();
+        when(repository.existsByJti(token.getTokenId())).thenReturn(true);
+
+        accessTokenDenylist.revoke(token);
+
+        assertThat(accessTokenDenylist.isRevoked(token)).isTrue();
+        verify(repository).insertIgnore(token.getTokenId(), token.getExpiresAt());
+    }
+
+    private ValidatedToken accessToken() {
+        return jwtTokenProvider.validate(
+                jwtTokenProvider.createAccessToken(1L, "user1@example.com", "ROLE_USER", 0));
+    }
+}
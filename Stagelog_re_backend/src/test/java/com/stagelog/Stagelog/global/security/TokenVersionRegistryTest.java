@@ -0,0 +1,112 @@
+package com.stagelog.Stagelog.global.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.stagelog.Stagelog.global.jwt.JwtProperties;
+import com.stagelog.Stagelog.global.jwt.JwtTokenProvider;
+import com.stagelog.Stagelog.global.jwt.ValidatedToken;
+import com.stagelog.Stagelog.user.event.UserTokenRevokedEvent;
+import com.stagelog.Stagelog.user.repository.UserRepository;
+import com.stagelog.Stagelog.user.repository.UserTokenVersion;
+import io.jsonwebtoken.io.Encoders;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenVersionRegistryTest {
+
+    private UserRepository userRepository;
+    private JwtTokenProvider jwtTokenProvider;
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(Encoders.BASE64.encode(
+                "stagelog-test-secret-key-0123456789abcdef".getBytes(StandardCharsets.UTF_8)));
+        jwtProperties.setAccessTokenValidity(3_600_000L);
+        jwtProperties.setRefreshTokenValidity(1_209_600_000L);
+        jwtTokenProvider = new JwtTokenProvider(jwtProperties, null);
+        jwtTokenProvider.init();
+        userRepository = mock(UserRepository.class);
+        tokenVersionRegistry = new TokenVersionRegistry(userRepository, jwtProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tokenVersionRegistry.shutdown();
+    }
+
+    @Test
+    @DisplayName("정지/탈퇴로 버전이 올라가면 이전 버전 토큰은 더 이상 유효하지 않다")
+    void isCurrent_afterRevocation_rejectsOlderVersion() {
+        ValidatedToken oldToken = accessToken(1L, 0);
+        assertThat(tokenVersionRegistry.isCurrent(oldToken)).isTrue();
+
+        tokenVersionRegistry.onTokenRevoked(new UserTokenRevokedEvent(1L, 1));
+
+        assertThat(tokenVersionRegistry.isCurrent(oldToken)).isFalse();
+        assertThat(tokenVersionRegistry.isCurrent(accessToken(1L, 1))).isTrue();
+        assertThat(tokenVersionRegistry.isCurrent(accessToken(2L, 0))).isTrue();
+    }
+
+    @Test
+    @DisplayName("uid claim이 없는 이전 형식 토큰은 버전 0으로 보고, 무효화된 적 있는 사용자면 거절한다")
+    void isCurrent_legacyTokenOfRevokedUser_rejected() {
+        tokenVersionRegistry.onTokenRevoked(new UserTokenRevokedEvent(1L, 1));
+
+        assertThat(tokenVersionRegistry.isCurrent(1L, 0)).isFalse();
+        assertThat(tokenVersionRegistry.isCurrent(2L, 0)).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 정지는 이벤트 없이 다음 동기화 한 번으로 반영된다")
+    void sync_revokedOnPeerNode_rejectedAfterNextSync() {
+        tokenVersionRegistry.init();
+        ValidatedToken oldToken = accessToken(1L, 0);
+        UserTokenVersion revoked = tokenVersion(1L, 1);
+        when(userRepository.findRevokedTokenVersionsUpdatedSince(any())).thenReturn(List.of(revoked));
+
+        assertThat(tokenVersionRegistry.isCurrent(oldToken)).isTrue();
+        assertThat(tokenVersionRegistry.isCurrent(1L, 0)).isTrue();
+
+        tokenVersionRegistry.sync();
+
+        assertThat(tokenVersionRegistry.isCurrent(oldToken)).isFalse();
+        assertThat(tokenVersionRegistry.isCurrent(1L, 0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("동기화 조회가 실패하면 반영이 다음 성공까지 늦어질 뿐 이전 구간을 건너뛰지 않는다")
+    void sync_failure_retriesSameWindow() {
+        tokenVersionRegistry.init();
+        UserTokenVersion revoked = tokenVersion(1L, 1);
+        when(userRepository.findRevokedTokenVersionsUpdatedSince(any()))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(List.of(revoked));
+
+        tokenVersionRegistry.sync();
+        assertThat(tokenVersionRegistry.isCurrent(1L, 0)).isTrue();
+
+        tokenVersionRegistry.sync();
+        assertThat(tokenVersionRegistry.isCurrent(1L, 0)).isFalse();
+    }
+
+    private UserTokenVersion tokenVersion(Long userId, int version) {
+        UserTokenVersion tokenVersion = mock(UserTokenVersion.class);
+        when(tokenVersion.getId()).thenReturn(userId);
+        when(tokenVersion.getTokenVersion()).thenReturn(version);
+        return tokenVersion;
+    }
+
+    private ValidatedToken accessToken(Long userId, int version) {
+        return jwtTokenProvider.validate(
+                jwtTokenProvider.createAccessToken(userId, "user" + userId + "@example.com", "ROLE_USER", version));
+    }
+}
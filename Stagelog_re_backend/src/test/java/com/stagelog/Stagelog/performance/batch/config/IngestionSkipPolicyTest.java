@@ -0,0 +1,45 @@
+package com.stagelog.Stagelog.performance.batch.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.stagelog.Stagelog.global.exception.IngestionItemException;
+import com.stagelog.Stagelog.global.exception.KopisApiException;
+import java.time.format.DateTimeParseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.step.skip.SkipLimitExceededException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+class IngestionSkipPolicyTest {
+
+    private final IngestionSkipPolicy policy = new IngestionSkipPolicy(2);
+
+    @Test
+    @DisplayName("컬럼 길이·날짜 형식 오류처럼 한 건의 데이터 문제는 건너뛴다")
+    void shouldSkip_dataError_true() {
+        assertThat(policy.shouldSkip(new DataIntegrityViolationException("value too long"), 0)).isTrue();
+        assertThat(policy.shouldSkip(new DateTimeParseException("bad", "2025.13.01", 0), 0)).isTrue();
+    }
+
+    @Test
+    @DisplayName("상세 조회 4xx는 건너뛰지만 재시도 대상 오류와 목록 조회 실패는 스텝을 실패시킨다")
+    void shouldSkip_kopisErrors_onlyItemScoped4xx() {
+        KopisApiException notFound = new KopisApiException("HTTP 404", false, null,
+                new HttpClientErrorException(HttpStatus.NOT_FOUND));
+        KopisApiException unavailable = new KopisApiException("HTTP 503", true, null, null);
+
+        assertThat(policy.shouldSkip(new IngestionItemException("PF1", notFound), 0)).isTrue();
+        assertThat(policy.shouldSkip(notFound, 0)).isFalse();
+        assertThat(policy.shouldSkip(new IngestionItemException("PF1", unavailable), 0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("skipLimit을 넘으면 스텝을 실패시킨다")
+    void shouldSkip_overLimit_throws() {
+        assertThatThrownBy(() -> policy.shouldSkip(new IllegalArgumentException("bad"), 2))
+                .isInstanceOf(SkipLimitExceededException.class);
+    }
+}
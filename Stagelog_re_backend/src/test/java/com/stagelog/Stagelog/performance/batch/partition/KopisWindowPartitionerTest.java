@@ -0,0 +1,52 @@
+package com.stagelog.Stagelog.performance.batch.partition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.stagelog.Stagelog.performance.client.KopisClientProperties;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+class KopisWindowPartitionerTest {
+
+    private final KopisWindowPlanner planner = new KopisWindowPlanner(100, new KopisClientProperties.Window());
+
+    @Test
+    @DisplayName("기록이 없으면 장르마다 한 달 단위 파티션을 만들고 장르 코드와 구간을 담는다")
+    void partition_noEstimates_createsCategoryByMonth() {
+        KopisWindowPartitioner partitioner = new KopisWindowPartitioner(
+                LocalDate.of(2025, 3, 1), LocalDate.of(2025, 4, 15), List.of("CCCD", "AAAA"),
+                planner, category -> Map.of());
+
+        Map<String, ExecutionContext> partitions = partitioner.partition(1);
+
+        assertThat(partitions).containsOnlyKeys(
+                "window-CCCD-20250301", "window-CCCD-20250401",
+                "window-AAAA-20250301", "window-AAAA-20250401");
+        ExecutionContext april = partitions.get("window-AAAA-20250401");
+        assertThat(april.getString(KopisWindowPartitioner.CATEGORY_KEY)).isEqualTo("AAAA");
+        assertThat(april.getString(KopisWindowPartitioner.PERIOD_START_KEY)).isEqualTo("2025-04-01");
+        assertThat(april.getString(KopisWindowPartitioner.PERIOD_END_KEY)).isEqualTo("2025-04-15");
+    }
+
+    @Test
+    @DisplayName("장르별 기록에 따라 구간을 따로 계획한다")
+    void partition_sparseCategory_mergesOnlyThatCategory() {
+        Map<LocalDate, Long> sparse = Map.of(
+                LocalDate.of(2025, 3, 1), 10L,
+                LocalDate.of(2025, 4, 1), 10L);
+        KopisWindowPartitioner partitioner = new KopisWindowPartitioner(
+                LocalDate.of(2025, 3, 1), LocalDate.of(2025, 4, 30), List.of("CCCD", "AAAA"),
+                planner, category -> category.equals("AAAA") ? sparse : Map.of());
+
+        Map<String, ExecutionContext> partitions = partitioner.partition(1);
+
+        assertThat(partitions).containsOnlyKeys(
+                "window-CCCD-20250301", "window-CCCD-20250401", "window-AAAA-20250301");
+        assertThat(partitions.get("window-AAAA-20250301").getString(KopisWindowPartitioner.PERIOD_END_KEY))
+                .isEqualTo("2025-04-30");
+    }
+}
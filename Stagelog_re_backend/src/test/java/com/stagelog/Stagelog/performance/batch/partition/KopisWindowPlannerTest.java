@@ -0,0 +1,57 @@
+package com.stagelog.Stagelog.performance.batch.partition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.stagelog.Stagelog.performance.batch.partition.KopisWindowPlanner.Window;
+import com.stagelog.Stagelog.performance.client.KopisClientProperties;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KopisWindowPlannerTest {
+
+    private final KopisWindowPlanner planner = new KopisWindowPlanner(100, new KopisClientProperties.Window());
+
+    @Test
+    @DisplayName("드문 달은 합계가 한 페이지를 넘지 않는 만큼 이어 붙인다")
+    void plan_sparseMonths_mergedWithinOnePage() {
+        Map<LocalDate, Long> estimates = Map.of(
+                LocalDate.of(2025, 1, 1), 30L,
+                LocalDate.of(2025, 2, 1), 40L,
+                LocalDate.of(2025, 3, 1), 50L);
+
+        List<Window> windows = planner.plan(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 31), estimates);
+
+        assertThat(windows).containsExactly(
+                new Window(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 28)),
+                new Window(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31)));
+    }
+
+    @Test
+    @DisplayName("기록이 없는 달은 한 달 구간으로 두고 합치기를 끊는다")
+    void plan_unknownMonth_keepsMonthlyWindow() {
+        Map<LocalDate, Long> estimates = Map.of(
+                LocalDate.of(2025, 1, 1), 10L,
+                LocalDate.of(2025, 3, 1), 10L);
+
+        List<Window> windows = planner.plan(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 31), estimates);
+
+        assertThat(windows).extracting(Window::start).containsExactly(
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 1), LocalDate.of(2025, 3, 1));
+    }
+
+    @Test
+    @DisplayName("한 달 추정치가 splitPages 페이지를 넘으면 기간을 나눈다")
+    void plan_denseMonth_split() {
+        Map<LocalDate, Long> estimates = Map.of(LocalDate.of(2025, 4, 1), 2_500L);
+
+        List<Window> windows = planner.plan(LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 30), estimates);
+
+        assertThat(windows).containsExactly(
+                new Window(LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 10)),
+                new Window(LocalDate.of(2025, 4, 11), LocalDate.of(2025, 4, 20)),
+                new Window(LocalDate.of(2025, 4, 21), LocalDate.of(2025, 4, 30)));
+    }
+}
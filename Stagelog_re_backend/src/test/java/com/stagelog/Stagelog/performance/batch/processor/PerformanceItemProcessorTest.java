@@ -0,0 +1,70 @@
+package com.stagelog.Stagelog.performance.batch.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.stagelog.Stagelog.performance.dto.KopisPerformanceListItem;
+import com.stagelog.Stagelog.performance.repository.KopisPerformanceRepository;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PerformanceItemProcessorTest {
+
+    @Mock
+    private KopisPerformanceRepository kopisPerformanceRepository;
+
+    private PerformanceItemProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        processor = new PerformanceItemProcessor(kopisPerformanceRepository);
+    }
+
+    @Test
+    @DisplayName("청크에서 읽은 mt20id는 첫 처리 때 한 번에 조회한다")
+    void process_afterChunkRead_loadsHashesOnce() {
+        KopisPerformanceListItem unchanged = item("PF1");
+        KopisPerformanceListItem created = item("PF2");
+        when(kopisPerformanceRepository.findContentHashesByKopisIds(any()))
+                .thenReturn(Map.of("PF1", unchanged.contentHash()));
+
+        processor.afterRead(unchanged);
+        processor.afterRead(created);
+
+        assertThat(processor.process(unchanged)).isNull();
+        assertThat(processor.process(created)).isNotNull();
+        assertThat(processor.isKnown("PF2")).isFalse();
+        verify(kopisPerformanceRepository, times(1)).findContentHashesByKopisIds(any());
+    }
+
+    @Test
+    @DisplayName("해시가 없는 이전 행은 목록 필드는 갱신하되 기존 공연으로 본다")
+    void isKnown_legacyRowWithoutHash_isKnown() {
+        Map<String, String> stored = new HashMap<>();
+        stored.put("PF1", null);
+        when(kopisPerformanceRepository.findContentHashesByKopisIds(any())).thenReturn(stored);
+
+        assertThat(processor.process(item("PF1"))).isNotNull();
+        assertThat(processor.isKnown("PF1")).isTrue();
+    }
+
+    private KopisPerformanceListItem item(String kopisId) {
+        KopisPerformanceListItem item = new KopisPerformanceListItem();
+        item.setMt20id(kopisId);
+        item.setPrfnm("공연");
+        item.setPrfpdfrom(LocalDate.of(2025, 3, 1));
+        item.setPrfpdto(LocalDate.of(2025, 3, 31));
+        return item;
+    }
+}
@@ -0,0 +1,116 @@
+package com.stagelog.Stagelog.performance.batch.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.stagelog.Stagelog.performance.client.KopisClientProperties;
+import com.stagelog.Stagelog.performance.client.KopisPerformanceDataProvider;
+import com.stagelog.Stagelog.performance.dto.KopisPerformanceListItem;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+
+@ExtendWith(MockitoExtension.class)
+class PerformanceItemReaderTest {
+
+    @Mock
+    private KopisPerformanceDataProvider dataProvider;
+
+    private PerformanceItemReader reader;
+
+    @BeforeEach
+    void setUp() {
+        KopisClientProperties properties = new KopisClientProperties();
+        properties.setRowsPerPage(3);
+        reader = new PerformanceItemReader(dataProvider, properties, "CCCD", "2025-03-01", "2025-04-30");
+    }
+
+    @Test
+    @DisplayName("읽는 도중 update하면 현재 구간, 버퍼의 페이지, 읽은 위치를 저장한다")
+    void update_midPage_savesWindowPageAndOffset() {
+        givenPage("20250301", "20250430", 1, List.of(item("PF1"), item("PF2"), item("PF3")));
+
+        reader.read();
+        reader.read();
+        ExecutionContext context = new ExecutionContext();
+        reader.update(context);
+
+        assertThat(context.getString("performanceItemReader.windowStart")).isEqualTo("2025-03-01");
+        assertThat(context.getInt("performanceItemReader.page")).isEqualTo(1);
+        assertThat(context.getInt("performanceItemReader.offset")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("버퍼를 모두 읽은 뒤 update하면 다음 페이지를 오프셋 0으로 저장한다")
+    void update_bufferExhausted_savesNextPage() {
+        givenPage("20250301", "20250430", 1, List.of(item("PF1")));
+
+        reader.read();
+        ExecutionContext context = new ExecutionContext();
+        reader.update(context);
+
+        assertThat(context.getInt("performanceItemReader.page")).isEqualTo(2);
+        assertThat(context.getInt("performanceItemReader.offset")).isZero();
+    }
+
+    @Test
+    @DisplayName("저장된 체크포인트로 open하면 해당 구간/페이지부터 조회하고 이미 읽은 항목은 건너뛴다")
+    void open_withCheckpoint_resumesFromSavedPosition() {
+        ExecutionContext context = new ExecutionContext();
+        context.putString("performanceItemReader.windowStart", "2025-04-01");
+        context.putInt("performanceItemReader.page", 2);
+        context.putInt("performanceItemReader.offset", 1);
+        givenPage("20250401", "20250430", 2, List.of(item("PF11"), item("PF12")));
+
+        reader.open(context);
+
+        assertThat(reader.read().getMt20id()).isEqualTo("PF12");
+        verify(dataProvider, never()).streamPerformances(eq("20250301"), anyString(), anyInt(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("페이지가 가득 차지 않으면 다음 페이지를 요청하지 않고 끝낸다")
+    void read_shortPage_stopsWithoutExtraRequest() {
+        givenPage("20250301", "20250430", 1, List.of(item("PF1"), item("PF2"), item("PF3")));
+        givenPage("20250301", "20250430", 2, List.of(item("PF4")));
+
+        List<String> read = new ArrayList<>();
+        KopisPerformanceListItem item;
+        while ((item = reader.read()) != null) {
+            read.add(item.getMt20id());
+        }
+
+        assertThat(read).containsExactly("PF1", "PF2", "PF3", "PF4");
+        verify(dataProvider, times(2)).streamPerformances(anyString(), anyString(), anyInt(), anyString(), any());
+        verify(dataProvider, never()).streamPerformances(anyString(), anyString(), eq(3), anyString(), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenPage(String start, String end, int page, List<KopisPerformanceListItem> items) {
+        doAnswer(invocation -> {
+            Consumer<KopisPerformanceListItem> consumer = invocation.getArgument(4);
+            items.forEach(consumer);
+            return items.size();
+        }).when(dataProvider).streamPerformances(eq(start), eq(end), eq(page), eq("CCCD"), any(Consumer.class));
+    }
+
+    private KopisPerformanceListItem item(String kopisId) {
+        KopisPerformanceListItem item = new KopisPerformanceListItem();
+        item.setMt20id(kopisId);
+        return item;
+    }
+}
@@ -0,0 +1,161 @@
+package com.stagelog.Stagelog.performance.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stagelog.Stagelog.global.exception.KopisApiException;
+import com.stagelog.Stagelog.performance.dto.KopisPerformanceListItem;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+class CachingKopisDataProviderTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final Instant NOW = LocalDate.of(2025, 6, 15).atStartOfDay(SEOUL).toInstant();
+
+    @TempDir
+    Path cacheDir;
+
+    private final KopisPerformanceDataProvider delegate = mock(KopisPerformanceDataProvider.class);
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private KopisResponseStore store;
+    private KopisClientProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        store = new KopisResponseStore(cacheDir, objectMapper);
+        properties = new KopisClientProperties();
+    }
+
+    @Test
+    @DisplayName("READ_WRITE: 같은 요청은 두 번째부터 디스크에서 돌려준다")
+    void fetchPerformances_readWrite_secondCallHitsCache() {
+        properties.getCache().setMode(CachingKopisDataProvider.Mode.READ_WRITE);
+        CachingKopisDataProvider provider = provider(Clock.fixed(NOW, SEOUL));
+        when(delegate.fetchPerformances("20250601", "20250630", 1, "CCCD")).thenReturn(List.of(item("PF1")));
+
+        provider.fetchPerformances("20250601", "20250630", 1, "CCCD");
+        List<KopisPerformanceListItem> cached = provider.fetchPerformances("20250601", "20250630", 1, "CCCD");
+
+        assertThat(cached).extracting(KopisPerformanceListItem::getMt20id).containsExactly("PF1");
+        assertThat(cached.get(0).getPrfpdfrom()).isEqualTo(LocalDate.of(2025, 6, 1));
+        verify(delegate, times(1)).fetchPerformances("20250601", "20250630", 1, "CCCD");
+    }
+
+    @Test
+    @DisplayName("READ_WRITE: 현재 구간은 짧은 TTL이 지나면 다시 호출한다")
+    void fetchPerformances_recentWindowExpired_callsDelegate() {
+        properties.getCache().setMode(CachingKopisDataProvider.Mode.READ_WRITE);
+        when(delegate.fetchPerformances("20250601", "20250630", 1, "CCCD")).thenReturn(List.of(item("PF1")));
+
+        provider(Clock.fixed(NOW, SEOUL)).fetchPerformances("20250601", "20250630", 1, "CCCD");
+        Clock later = Clock.fixed(NOW.plus(Duration.ofHours(13)), SEOUL);
+        provider(later).fetchPerformances("20250601", "20250630", 1, "CCCD");
+
+        verify(delegate, times(2)).fetchPerformances("20250601", "20250630", 1, "CCCD");
+    }
+
+    @Test
+    @DisplayName("READ_WRITE: 끝난 지 오래된 구간은 긴 TTL을 적용한다")
+    void fetchPerformances_settledWindow_usesLongTtl() {
+        properties.getCache().setMode(CachingKopisDataProvider.Mode.READ_WRITE);
+        when(delegate.fetchPerformances("20250101", "20250131", 1, "CCCD")).thenReturn(List.of(item("PF1")));
+
+        provider(Clock.fixed(NOW, SEOUL)).fetchPerformances("20250101", "20250131", 1, "CCCD");
+        Clock later = Clock.fixed(NOW.plus(Duration.ofDays(3)), SEOUL);
+        provider(later).fetchPerformances("20250101", "20250131", 1, "CCCD");
+
+        verify(delegate, times(1)).fetchPerformances("20250101", "20250131", 1, "CCCD");
+    }
+
+    @Test
+    @DisplayName("READ_WRITE: 스트리밍 목록도 끝난 구간 TTL 안에서는 저장된 응답을 넘긴다")
+    void streamPerformances_settledWindow_replaysFromCache() {
+        properties.getCache().setMode(CachingKopisDataProvider.Mode.READ_WRITE);
+        when(delegate.streamPerformances(eq("20250101"), eq("20250131"), eq(1), eq("CCCD"), any()))
+                .thenAnswer(invocation -> {
+                    Consumer<KopisPerformanceListItem> consumer = invocation.getArgument(4);
+                    consumer.accept(item("PF1"));
+                    return 1;
+                });
+
+        List<KopisPerformanceListItem> fetched = new ArrayList<>();
+        provider(Clock.fixed(NOW, SEOUL)).streamPerformances("20250101", "20250131", 1, "CCCD", fetched::add);
+        List<KopisPerformanceListItem> replayed = new ArrayList<>();
+        Clock later = Clock.fixed(NOW.plus(Duration.ofDays(3)), SEOUL);
+        int count = provider(later).streamPerformances("20250101", "20250131", 1, "CCCD", replayed::add);
+
+        assertThat(count).isEqualTo(1);
+        assertThat(replayed).extracting(KopisPerformanceListItem::getMt20id).containsExactly("PF1");
+        verify(delegate, times(1)).streamPerformances(eq("20250101"), eq("20250131"), eq(1), eq("CCCD"), any());
+    }
+
+    @Test
+    @DisplayName("RECORD: 목록 요청은 TTL 계산 없이 항상 호출하고 저장한다")
+    void fetchPerformances_record_alwaysCallsDelegate() {
+        properties.getCache().setMode(CachingKopisDataProvider.Mode.RECORD);
+        CachingKopisDataProvider provider = provider(Clock.fixed(NOW, SEOUL));
+        when(delegate.fetchPerformances("20250101", "20250131", 1, "CCCD")).thenReturn(List.of(item("PF1")));
+
+        provider.fetchPerformances("20250101", "20250131", 1, "CCCD");
+        provider.fetchPerformances("20250101", "20250131", 1, "CCCD");
+
+        verify(delegate, times(2)).fetchPerformances("20250101", "20250131", 1, "CCCD");
+    }
+
+    @Test
+    @DisplayName("RECORD로 저장한 응답은 REPLAY에서 KOPIS 호출 없이 재생된다")
+    void fetchPerformanceDetail_recordThenReplay_replaysWithoutDelegate() {
+        properties.getCache().setMode(CachingKopisDataProvider.Mode.RECORD);
+        when(delegate.fetchPerformanceDetail("PF1")).thenReturn(null);
+        provider(Clock.fixed(NOW, SEOUL)).fetchPerformanceDetail("PF1");
+
+        properties.getCache().setMode(CachingKopisDataProvider.Mode.REPLAY);
+        CachingKopisDataProvider replay = provider(Clock.fixed(NOW.plus(Duration.ofDays(365)), SEOUL));
+
+        assertThat(replay.fetchPerformanceDetail("PF1")).isNull();
+        verify(delegate, times(1)).fetchPerformanceDetail("PF1");
+    }
+
+    @Test
+    @DisplayName("REPLAY: 저장되지 않은 요청은 빈 결과가 아니라 실패로 처리한다")
+    void fetchPerformances_replayMiss_throws() {
+        properties.getCache().setMode(CachingKopisDataProvider.Mode.REPLAY);
+        CachingKopisDataProvider provider = provider(Clock.fixed(NOW, SEOUL));
+
+        assertThatThrownBy(() -> provider.fetchPerformances("20250601", "20250630", 9, "CCCD"))
+                .isInstanceOf(KopisApiException.class);
+        verify(delegate, never()).fetchPerformances("20250601", "20250630", 9, "CCCD");
+    }
+
+    private CachingKopisDataProvider provider(Clock clock) {
+        return new CachingKopisDataProvider(delegate, store, objectMapper, properties, clock);
+    }
+
+    private KopisPerformanceListItem item(String kopisId) {
+        KopisPerformanceListItem item = new KopisPerformanceListItem();
+        item.setMt20id(kopisId);
+        item.setPrfpdfrom(LocalDate.of(2025, 6, 1));
+        return item;
+    }
+}
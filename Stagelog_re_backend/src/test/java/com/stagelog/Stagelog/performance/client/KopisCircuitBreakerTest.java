@@ -0,0 +1,96 @@
+package com.stagelog.Stagelog.performance.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KopisCircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final KopisCircuitBreaker circuitBreaker =
+            new KopisCircuitBreaker(4, 4, 0.5, Duration.ofSeconds(10), now::get);
+
+    @Test
+    @DisplayName("최소 호출 수가 쌓이기 전에는 실패가 있어도 열리지 않는다")
+    void onFailure_belowMinimumCalls_staysClosed() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(KopisCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.permitWaitNanos()).isZero();
+    }
+
+    @Test
+    @DisplayName("실패율이 기준 이상이면 열리고 openDuration 동안 호출을 막는다")
+    void onFailure_overThreshold_opens() {
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(KopisCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.permitWaitNanos()).isEqualTo(Duration.ofSeconds(10).toNanos());
+    }
+
+    @Test
+    @DisplayName("openDuration이 지나면 시험 호출 하나만 허용하고, 성공하면 닫힌다")
+    void permitWaitNanos_afterOpenDuration_allowsSingleProbe() {
+        openCircuit();
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertThat(circuitBreaker.permitWaitNanos()).isZero();
+        assertThat(circuitBreaker.getState()).isEqualTo(KopisCircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.permitWaitNanos()).isPositive();
+
+        circuitBreaker.onSuccess();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(KopisCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 열린다")
+    void onFailure_halfOpen_reopens() {
+        openCircuit();
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        circuitBreaker.permitWaitNanos();
+
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(KopisCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("시험 호출 결과를 무시하면 기록 없이 곧바로 다른 시험 호출을 허용한다")
+    void onIgnored_halfOpen_allowsNextProbe() {
+        openCircuit();
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        circuitBreaker.permitWaitNanos();
+
+        circuitBreaker.onIgnored();
+
+        assertThat(circuitBreaker.permitWaitNanos()).isZero();
+        assertThat(circuitBreaker.getState()).isEqualTo(KopisCircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    @DisplayName("무시한 결과는 실패율 창에 들어가지 않는다")
+    void onIgnored_closed_notRecorded() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onIgnored();
+        circuitBreaker.onIgnored();
+        circuitBreaker.onFailure();
+
+        // 기록됐다면 4건 중 2건 실패(0.5)로 열렸을 것이다
+        assertThat(circuitBreaker.getState()).isEqualTo(KopisCircuitBreaker.State.CLOSED);
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.onFailure();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.stagelog.Stagelog.performance.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KopisRateLimiterTest {
+
+    @Test
+    @DisplayName("burst만큼은 대기 없이 토큰을 얻고, 그 이후에는 토큰이 부족하다")
+    void tryAcquire_afterBurstExhausted_returnsFalse() {
+        KopisRateLimiter rateLimiter = new KopisRateLimiter(1, 3);
+
+        assertThat(rateLimiter.tryAcquire()).isTrue();
+        assertThat(rateLimiter.tryAcquire()).isTrue();
+        assertThat(rateLimiter.tryAcquire()).isTrue();
+        assertThat(rateLimiter.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("토큰이 없으면 다음 토큰이 채워질 때까지 대기한다")
+    void acquire_whenEmpty_waitsForRefill() {
+        KopisRateLimiter rateLimiter = new KopisRateLimiter(20, 1);
+        rateLimiter.acquire();
+
+        long waitedNanos = rateLimiter.acquire();
+
+        assertThat(waitedNanos).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(40));
+    }
+
+    @Test
+    @DisplayName("초당 호출 수가 0 이하이면 생성할 수 없다")
+    void constructor_withNonPositiveRate_throwsIllegalArgumentException() {
+        assertThatThrownBy(() -> new KopisRateLimiter(0, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
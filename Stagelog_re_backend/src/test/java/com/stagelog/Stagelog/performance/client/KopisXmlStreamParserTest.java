@@ -0,0 +1,71 @@
+package com.stagelog.Stagelog.performance.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.stagelog.Stagelog.performance.dto.KopisPerformanceListItem;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KopisXmlStreamParserTest {
+
+    private final KopisXmlStreamParser parser = new KopisXmlStreamParser();
+
+    @Test
+    @DisplayName("<db> 요소를 하나씩 파싱해 순서대로 넘긴다")
+    void parseListItems_multipleDb_deliversEachItem() throws IOException {
+        String xml = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <dbs>
+                  <db>
+                    <mt20id>PF000001</mt20id>
+                    <prfnm>공연 A</prfnm>
+                    <prfpdfrom>2025.03.01</prfpdfrom>
+                    <prfpdto>2025.03.31</prfpdto>
+                    <fcltynm>공연장 A</fcltynm>
+                    <poster>http://poster/a.gif</poster>
+                    <area>서울특별시</area>
+                    <genrenm>대중음악</genrenm>
+                    <prfstate>공연중</prfstate>
+                  </db>
+                  <db>
+                    <mt20id>PF000002</mt20id>
+                    <prfnm>공연 B</prfnm>
+                    <prfpdfrom>2025.04.01</prfpdfrom>
+                    <prfpdto>2025.04.02</prfpdto>
+                    <prfstate>공연예정</prfstate>
+                  </db>
+                </dbs>
+                """;
+        List<KopisPerformanceListItem> items = new ArrayList<>();
+
+        int count = parser.parseListItems(toStream(xml), items::add);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(items).extracting(KopisPerformanceListItem::getMt20id)
+                .containsExactly("PF000001", "PF000002");
+        assertThat(items.get(0).getPrfpdfrom()).isEqualTo(LocalDate.of(2025, 3, 1));
+        assertThat(items.get(1).getPrfstate()).isEqualTo("공연예정");
+    }
+
+    @Test
+    @DisplayName("결과가 없는 응답이면 아무것도 넘기지 않는다")
+    void parseListItems_emptyDbs_returnsZero() throws IOException {
+        List<KopisPerformanceListItem> items = new ArrayList<>();
+
+        int count = parser.parseListItems(toStream("<dbs></dbs>"), items::add);
+
+        assertThat(count).isZero();
+        assertThat(items).isEmpty();
+    }
+
+    private InputStream toStream(String xml) {
+        return new ByteArrayInputStream(xml.strip().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,193 @@
+package com.stagelog.Stagelog.performance.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.stagelog.Stagelog.global.exception.KopisApiException;
+import com.stagelog.Stagelog.performance.dto.KopisPerformanceDetailItem;
+import com.stagelog.Stagelog.performance.dto.KopisPerformanceListItem;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ResilientKopisDataProviderTest {
+
+    private final KopisPerformanceDataProvider delegate = mock(KopisPerformanceDataProvider.class);
+    private final List<Long> sleeps = new ArrayList<>();
+
+    private KopisClientProperties properties;
+    private KopisRateLimiter rateLimiter;
+    private ResilientKopisDataProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        properties = new KopisClientProperties();
+        properties.getRetry().setMaxAttempts(3);
+        properties.getRetry().setInitialBackoff(Duration.ofMillis(100));
+
+        rateLimiter = new KopisRateLimiter(properties.getRequestsPerSecond(), properties.getBurst());
+        KopisCircuitBreaker circuitBreaker = new KopisCircuitBreaker(20, 10, 0.5, Duration.ofSeconds(30));
+        provider = new ResilientKopisDataProvider(delegate, rateLimiter, circuitBreaker, properties, sleeps::add);
+    }
+
+    @Test
+    @DisplayName("일시적 오류는 백오프 후 재시도해 결과를 돌려준다")
+    void fetchPerformanceDetail_transientFailure_retriesThenSucceeds() {
+        KopisPerformanceDetailItem detail = new KopisPerformanceDetailItem();
+        when(delegate.fetchPerformanceDetail("PF1"))
+                .thenThrow(retryable(null))
+                .thenReturn(detail);
+
+        assertThat(provider.fetchPerformanceDetail("PF1")).isSameAs(detail);
+        assertThat(sleeps).hasSize(1);
+        assertThat(sleeps.get(0)).isBetween(Duration.ofMillis(50).toNanos(), Duration.ofMillis(100).toNanos());
+    }
+
+    @Test
+    @DisplayName("재시도 한도를 넘기면 빈 결과가 아니라 예외를 던진다")
+    void fetchPerformances_exhaustedRetries_throws() {
+        when(delegate.fetchPerformances("20250301", "20250331", 1, "CCCD")).thenThrow(retryable(null));
+
+        assertThatThrownBy(() -> provider.fetchPerformances("20250301", "20250331", 1, "CCCD"))
+                .isInstanceOf(KopisApiException.class);
+        verify(delegate, times(3)).fetchPerformances("20250301", "20250331", 1, "CCCD");
+    }
+
+    @Test
+    @DisplayName("재시도 대상이 아닌 오류는 바로 던진다")
+    void fetchPerformanceDetail_nonRetryable_throwsImmediately() {
+        when(delegate.fetchPerformanceDetail("PF1"))
+                .thenThrow(new KopisApiException("HTTP 400", false, null, null));
+
+        assertThatThrownBy(() -> provider.fetchPerformanceDetail("PF1")).isInstanceOf(KopisApiException.class);
+        verify(delegate, times(1)).fetchPerformanceDetail("PF1");
+        assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Retry-After가 백오프보다 길면 그만큼 기다린다")
+    void fetchPerformanceDetail_retryAfter_waitsAtLeastRetryAfter() {
+        when(delegate.fetchPerformanceDetail("PF1"))
+                .thenThrow(retryable(Duration.ofSeconds(5)))
+                .thenReturn(null);
+
+        provider.fetchPerformanceDetail("PF1");
+
+        assertThat(sleeps).containsExactly(Duration.ofSeconds(5).toNanos());
+    }
+
+    @Test
+    @DisplayName("재시도 대상 오류가 나면 공유 호출 속도를 낮춘다")
+    void fetchPerformanceDetail_retryableFailure_lowersRate() {
+        when(delegate.fetchPerformanceDetail("PF1"))
+                .thenThrow(retryable(null))
+                .thenReturn(null);
+
+        provider.fetchPerformanceDetail("PF1");
+
+        assertThat(rateLimiter.getRate()).isLessThan(5.0);
+    }
+
+    @Test
+    @DisplayName("같은 혼잡 구간에서 실패가 이어져도 호출 속도는 한 번만 낮춘다")
+    void fetchPerformanceDetail_burstOfFailures_lowersRateOnce() {
+        when(delegate.fetchPerformanceDetail("PF1"))
+                .thenThrow(retryable(null))
+                .thenThrow(retryable(null))
+                .thenReturn(null);
+
+        provider.fetchPerformanceDetail("PF1");
+
+        // 5.0 → 2.5 (1회 하향) → 성공 1회로 +0.25
+        assertThat(rateLimiter.getRate()).isEqualTo(2.75);
+    }
+
+    @Test
+    @DisplayName("시험 호출이 KOPIS 예외가 아닌 오류로 실패해도 HALF_OPEN에 머물지 않는다")
+    void fetchPerformanceDetail_probeThrowsUnexpected_releasesHalfOpen() {
+        KopisCircuitBreaker circuitBreaker = new KopisCircuitBreaker(1, 1, 0.5, Duration.ZERO);
+        circuitBreaker.onFailure();
+        ResilientKopisDataProvider probing =
+                new ResilientKopisDataProvider(delegate, rateLimiter, circuitBreaker, properties, sleeps::add);
+        KopisPerformanceDetailItem detail = new KopisPerformanceDetailItem();
+        when(delegate.fetchPerformanceDetail("PF1"))
+                .thenThrow(new IllegalStateException("XML 파싱 실패"))
+                .thenReturn(detail);
+
+        assertThatThrownBy(() -> probing.fetchPerformanceDetail("PF1")).isInstanceOf(IllegalStateException.class);
+        assertThat(circuitBreaker.getState()).isEqualTo(KopisCircuitBreaker.State.OPEN);
+
+        assertThat(probing.fetchPerformanceDetail("PF1")).isSameAs(detail);
+        assertThat(circuitBreaker.getState()).isEqualTo(KopisCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("아이템을 일부 넘긴 뒤 스트리밍이 실패하면 중복을 막기 위해 재시도하지 않는다")
+    @SuppressWarnings("unchecked")
+    void streamPerformances_failureAfterDelivery_doesNotRetry() {
+        doAnswer(invocation -> {
+            Consumer<KopisPerformanceListItem> consumer = invocation.getArgument(4);
+            consumer.accept(new KopisPerformanceListItem());
+            throw retryable(null);
+        }).when(delegate).streamPerformances(any(), any(), anyInt(), any(), any(Consumer.class));
+        List<KopisPerformanceListItem> received = new ArrayList<>();
+
+        assertThatThrownBy(() -> provider.streamPerformances("20250301", "20250331", 1, "CCCD", received::add))
+                .isInstanceOf(KopisApiException.class);
+        assertThat(received).hasSize(1);
+        assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    @DisplayName("스트리밍 도중 장애로 실패하면 재시도하지 않되 차단기에는 실패로 기록한다")
+    @SuppressWarnings("unchecked")
+    void streamPerformances_outageAfterDelivery_countsAsFailure() {
+        KopisCircuitBreaker circuitBreaker = new KopisCircuitBreaker(1, 1, 0.5, Duration.ofSeconds(30));
+        ResilientKopisDataProvider streaming =
+                new ResilientKopisDataProvider(delegate, rateLimiter, circuitBreaker, properties, sleeps::add);
+        doAnswer(invocation -> {
+            Consumer<KopisPerformanceListItem> consumer = invocation.getArgument(4);
+            consumer.accept(new KopisPerformanceListItem());
+            throw retryable(null);
+        }).when(delegate).streamPerformances(any(), any(), anyInt(), any(), any(Consumer.class));
+
+        List<KopisPerformanceListItem> received = new ArrayList<>();
+
+        assertThatThrownBy(() -> streaming.streamPerformances("20250301", "20250331", 1, "CCCD", received::add))
+                .isInstanceOf(KopisApiException.class);
+        assertThat(sleeps).isEmpty();
+        assertThat(circuitBreaker.getState()).isEqualTo(KopisCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("요청 오류(4xx)는 성공으로도 실패로도 세지 않는다")
+    void fetchPerformanceDetail_clientError_notCounted() {
+        KopisCircuitBreaker circuitBreaker = new KopisCircuitBreaker(2, 2, 1.0, Duration.ofSeconds(30));
+        ResilientKopisDataProvider counting =
+                new ResilientKopisDataProvider(delegate, rateLimiter, circuitBreaker, properties, sleeps::add);
+        circuitBreaker.onFailure();
+        when(delegate.fetchPerformanceDetail("PF1"))
+                .thenThrow(new KopisApiException("HTTP 400", false, null, null));
+
+        assertThatThrownBy(() -> counting.fetchPerformanceDetail("PF1")).isInstanceOf(KopisApiException.class);
+        circuitBreaker.onFailure();
+
+        // 4xx를 성공으로 셌다면 창이 [성공, 실패]가 되어 열리지 않는다
+        assertThat(circuitBreaker.getState()).isEqualTo(KopisCircuitBreaker.State.OPEN);
+    }
+
+    private KopisApiException retryable(Duration retryAfter) {
+        return new KopisApiException("HTTP 503", true, retryAfter, null);
+    }
+}
@@ -0,0 +1,43 @@
+package com.stagelog.Stagelog.performance.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KopisPerformanceListItemTest {
+
+    @Test
+    @DisplayName("목록 필드가 같으면 같은 해시를 만든다")
+    void contentHash_sameFields_sameHash() {
+        assertThat(item("공연중").contentHash()).isEqualTo(item("공연중").contentHash());
+    }
+
+    @Test
+    @DisplayName("공연 상태가 바뀌면 해시도 바뀐다")
+    void contentHash_statusChanged_differentHash() {
+        assertThat(item("공연예정").contentHash()).isNotEqualTo(item("공연중").contentHash());
+    }
+
+    @Test
+    @DisplayName("toEntity는 목록 필드 해시를 엔티티에 담는다")
+    void toEntity_setsContentHash() {
+        KopisPerformanceListItem item = item("공연중");
+
+        assertThat(item.toEntity().getContentHash())
+                .isEqualTo(item.contentHash())
+                .hasSize(64);
+    }
+
+    private KopisPerformanceListItem item(String status) {
+        KopisPerformanceListItem item = new KopisPerformanceListItem();
+        item.setMt20id("PF000001");
+        item.setPrfnm("공연");
+        item.setFcltynm("공연장");
+        item.setPrfstate(status);
+        item.setPrfpdfrom(LocalDate.of(2025, 3, 1));
+        item.setPrfpdto(LocalDate.of(2025, 3, 31));
+        return item;
+    }
+}
@@ -0,0 +1,73 @@
+package com.stagelog.Stagelog.performance.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.stagelog.Stagelog.global.exception.InvalidInputException;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+class PerformanceSearchConditionTest {
+
+    @Test
+    @DisplayName("정렬이 없으면 최신 등록순, 빈 검색어는 조건에서 뺀다")
+    void of_noSortBlankKeyword_defaultsToLatest() {
+        PerformanceSearchCondition condition = PerformanceSearchCondition.of(null, "  ", Sort.unsorted());
+
+        assertThat(condition.sortKey()).isEqualTo(PerformanceSearchCondition.SortKey.CREATED_AT);
+        assertThat(condition.descending()).isTrue();
+        assertThat(condition.keyword()).isNull();
+    }
+
+    @Test
+    @DisplayName("허용되지 않은 정렬 속성은 거부한다")
+    void of_unknownSortProperty_throws() {
+        assertThatThrownBy(() -> PerformanceSearchCondition.of(true, null, Sort.by("prfcast")))
+                .isInstanceOf(InvalidInputException.class);
+    }
+
+    @Test
+    @DisplayName("한 건이 더 조회되면 마지막으로 내려준 행의 정렬 값과 id로 다음 커서를 만든다")
+    void scrollResponse_moreRows_encodesCursorOfLastReturnedRow() {
+        PerformanceSearchCondition condition = PerformanceSearchCondition.of(false, null, Sort.by("startDate"));
+        List<PerformanceListResponse> rows = List.of(row(1L, "2025-03-01"), row(2L, "2025-03-02"), row(3L, "2025-03-03"));
+
+        PerformanceScrollResponse response = PerformanceScrollResponse.of(rows, 2, condition);
+
+        assertThat(response.content()).extracting(PerformanceListResponse::id).containsExactly(1L, 2L);
+        assertThat(response.hasNext()).isTrue();
+        assertThat(PerformanceCursor.decode(response.nextCursor()))
+                .isEqualTo(new PerformanceCursor(2L, "2025-03-02"));
+    }
+
+    @Test
+    @DisplayName("마지막 행의 정렬 값이 NULL이면 NULL 구간 커서로 주고받는다")
+    void cursor_nullValue_roundTripsAsNull() {
+        PerformanceCursor cursor = new PerformanceCursor(7L, null);
+
+        assertThat(PerformanceCursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThat(PerformanceCursor.decode(new PerformanceCursor(7L, "").encode()).value()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("제목 정렬은 받쳐 주는 인덱스가 없어 keyset 조회를 지원하지 않는다")
+    void supportsKeyset_title_false() {
+        assertThat(PerformanceSearchCondition.SortKey.TITLE.supportsKeyset()).isFalse();
+        assertThat(PerformanceSearchCondition.SortKey.START_DATE.supportsKeyset()).isTrue();
+    }
+
+    @Test
+    @DisplayName("형식이 깨진 커서는 잘못된 입력으로 처리한다")
+    void decode_malformedCursor_throws() {
+        assertThatThrownBy(() -> PerformanceCursor.decode("not-a-cursor"))
+                .isInstanceOf(InvalidInputException.class);
+    }
+
+    private PerformanceListResponse row(Long id, String startDate) {
+        LocalDate date = LocalDate.parse(startDate);
+        return new PerformanceListResponse(id, "공연 " + id, null, date, date);
+    }
+}
@@ -0,0 +1,52 @@
+package com.stagelog.Stagelog.performance.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.stagelog.Stagelog.global.config.CacheConfig;
+import com.stagelog.Stagelog.performance.repository.KopisPerformanceRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+class PerformanceDetailCacheInvalidatorTest {
+
+    private final KopisPerformanceRepository kopisPerformanceRepository = mock(KopisPerformanceRepository.class);
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfig.PERFORMANCE_DETAIL);
+    private final PerformanceDetailCacheInvalidator invalidator =
+            new PerformanceDetailCacheInvalidator(cacheManager, kopisPerformanceRepository);
+
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = cacheManager.getCache(CacheConfig.PERFORMANCE_DETAIL);
+        cache.put(1L, "공연 1");
+        cache.put(2L, "공연 2");
+        cache.put(3L, "공연 3");
+    }
+
+    @Test
+    @DisplayName("바뀐 id만 캐시에서 지운다")
+    void onPerformanceChanged_ids_evictsOnlyThoseIds() {
+        invalidator.onPerformanceChanged(PerformanceChangedEvent.ofIds(List.of(1L)));
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(2L)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("mt20id로 알린 변경은 id로 바꿔서 지운다")
+    void onPerformanceChanged_kopisIds_resolvesIdsAndEvicts() {
+        when(kopisPerformanceRepository.findIdsByKopisIdIn(List.of("PF2"))).thenReturn(List.of(2L));
+
+        invalidator.onPerformanceChanged(PerformanceChangedEvent.ofKopisIds(List.of("PF2")));
+
+        assertThat(cache.get(2L)).isNull();
+        assertThat(cache.get(3L)).isNotNull();
+    }
+}
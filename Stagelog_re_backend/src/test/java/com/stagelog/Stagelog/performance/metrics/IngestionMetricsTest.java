@@ -0,0 +1,49 @@
+package com.stagelog.Stagelog.performance.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+class IngestionMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final IngestionMetrics metrics = new IngestionMetrics(registry);
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("MDC의 잡/스텝 이름을 태그로 붙이고 파티션 접미사는 뗀다")
+    void recordDbWrite_partitionStep_tagsWithoutPartitionSuffix() {
+        MDC.put("jobName", "performanceIngestJob");
+        MDC.put("stepName", "performanceIngestStep:partition3");
+
+        int written = metrics.recordDbWrite("upsert_list", 5, () -> 5);
+
+        assertThat(written).isEqualTo(5);
+        assertThat(registry.get("ingestion.db.write")
+                .tag("job", "performanceIngestJob")
+                .tag("step", "performanceIngestStep")
+                .tag("operation", "upsert_list")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.get("ingestion.items").tag("stage", "written").counter().count()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("배치 밖에서 호출되면 job/step 태그는 none이다")
+    void recordKopisCall_withoutMdc_tagsNone() {
+        metrics.recordKopisCall("detail", System.nanoTime(), false);
+
+        assertThat(registry.get("kopis.api.requests")
+                .tag("job", "none")
+                .tag("step", "none")
+                .tag("outcome", "error")
+                .timer().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,64 @@
+package com.stagelog.Stagelog.performance.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class TrigramSearchSupportTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private TrigramSearchSupport trigramSearchSupport;
+
+    @Test
+    @DisplayName("pg_trgm이 설치돼 있으면 인덱스를 만들고 트라이그램 검색을 켠다")
+    void init_extensionInstalled_createsIndexes() {
+        when(jdbcTemplate.queryForObject(contains("pg_extension"), eq(Boolean.class))).thenReturn(true);
+
+        trigramSearchSupport.init();
+
+        verify(jdbcTemplate, times(2)).execute(contains("gin_trgm_ops"));
+        assertThat(trigramSearchSupport.isAvailable()).isTrue();
+    }
+
+    @Test
+    @DisplayName("pg_trgm이 없으면 인덱스를 만들지 않고 기동을 계속한다")
+    void init_extensionMissing_staysUnavailable() {
+        when(jdbcTemplate.queryForObject(contains("pg_extension"), eq(Boolean.class))).thenReturn(false);
+
+        trigramSearchSupport.init();
+
+        verify(jdbcTemplate, never()).execute(anyString());
+        assertThat(trigramSearchSupport.isAvailable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("인덱스 생성이 실패해도 예외를 던지지 않고 트라이그램 검색을 끈다")
+    void init_indexCreationFails_staysUnavailable() {
+        when(jdbcTemplate.queryForObject(contains("pg_extension"), eq(Boolean.class))).thenReturn(true);
+        doThrow(new DataAccessResourceFailureException("permission denied"))
+                .when(jdbcTemplate).execute(anyString());
+
+        trigramSearchSupport.init();
+
+        assertThat(trigramSearchSupport.isAvailable()).isFalse();
+    }
+}
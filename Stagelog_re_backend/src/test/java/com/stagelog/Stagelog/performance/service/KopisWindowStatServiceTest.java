@@ -0,0 +1,47 @@
+package com.stagelog.Stagelog.performance.service;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import com.stagelog.Stagelog.performance.repository.KopisWindowStatRepository;
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class KopisWindowStatServiceTest {
+
+    private static final String CATEGORY = "CCCD";
+    private static final LocalDate JUNE = LocalDate.of(2025, 6, 1);
+
+    @Mock
+    private KopisWindowStatRepository kopisWindowStatRepository;
+
+    @InjectMocks
+    private KopisWindowStatService kopisWindowStatService;
+
+    @Test
+    @DisplayName("한 달을 나눈 구간은 각자 읽은 행 수와 일수를 같은 달에 누적 기록한다")
+    void recordWindow_splitMonth_recordsEachPartWithItsDays() {
+        kopisWindowStatService.recordWindow(7L, CATEGORY, JUNE, LocalDate.of(2025, 6, 15), 900);
+        kopisWindowStatService.recordWindow(7L, CATEGORY, LocalDate.of(2025, 6, 16), LocalDate.of(2025, 6, 30), 300);
+
+        verify(kopisWindowStatRepository).upsert(CATEGORY, JUNE, 30, 900, 15, 7L);
+        verify(kopisWindowStatRepository).upsert(CATEGORY, JUNE, 30, 300, 15, 7L);
+        verifyNoMoreInteractions(kopisWindowStatRepository);
+    }
+
+    @Test
+    @DisplayName("여러 달을 합친 구간은 달마다 겹친 일수만큼 나눠 기록한다")
+    void recordWindow_mergedMonths_splitsByOverlap() {
+        kopisWindowStatService.recordWindow(7L, CATEGORY, JUNE, LocalDate.of(2025, 7, 31), 610);
+
+        verify(kopisWindowStatRepository).upsert(CATEGORY, JUNE, 30, 300, 30, 7L);
+        verify(kopisWindowStatRepository).upsert(CATEGORY, LocalDate.of(2025, 7, 1), 31, 310, 31, 7L);
+        verifyNoMoreInteractions(kopisWindowStatRepository);
+    }
+}
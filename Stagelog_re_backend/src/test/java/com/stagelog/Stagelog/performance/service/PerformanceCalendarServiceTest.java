@@ -0,0 +1,65 @@
+package com.stagelog.Stagelog.performance.service;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.stagelog.Stagelog.global.exception.InvalidInputException;
+import com.stagelog.Stagelog.performance.repository.KopisCalendarBucketRepository;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PerformanceCalendarServiceTest {
+
+    @Mock
+    private KopisCalendarBucketRepository kopisCalendarBucketRepository;
+
+    @InjectMocks
+    private PerformanceCalendarService performanceCalendarService;
+
+    @Test
+    @DisplayName("해당 월 1일 버킷을 조회한다")
+    void getMonth_validMonth_looksUpMonthStart() {
+        performanceCalendarService.getMonth(2025, 6);
+
+        verify(kopisCalendarBucketRepository)
+                .findByMonthStartOrderByStartDateAscPerformanceIdAsc(LocalDate.of(2025, 6, 1));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 월은 잘못된 입력으로 처리한다")
+    void getMonth_invalidMonth_throws() {
+        assertThatThrownBy(() -> performanceCalendarService.getMonth(2025, 13))
+                .isInstanceOf(InvalidInputException.class);
+    }
+
+    @Test
+    @DisplayName("갱신은 기존 버킷을 지운 뒤 다시 펼친다")
+    void refresh_kopisIds_deletesThenInserts() {
+        List<String> kopisIds = List.of("PF1", "PF2");
+
+        performanceCalendarService.refresh(kopisIds);
+
+        InOrder order = inOrder(kopisCalendarBucketRepository);
+        order.verify(kopisCalendarBucketRepository).deleteByKopisIds(kopisIds);
+        order.verify(kopisCalendarBucketRepository).insertByKopisIds(kopisIds);
+    }
+
+    @Test
+    @DisplayName("저장한 공연이 없으면 쿼리를 보내지 않는다")
+    void refresh_empty_skips() {
+        performanceCalendarService.refresh(List.of());
+
+        verify(kopisCalendarBucketRepository, never()).deleteByKopisIds(any());
+    }
+}
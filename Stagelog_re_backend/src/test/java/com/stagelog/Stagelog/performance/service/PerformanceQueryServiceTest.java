@@ -0,0 +1,93 @@
+package com.stagelog.Stagelog.performance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.stagelog.Stagelog.global.exception.InvalidInputException;
+import com.stagelog.Stagelog.performance.repository.KopisPerformanceRepository;
+import com.stagelog.Stagelog.performance.repository.TrigramSearchSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+@ExtendWith(MockitoExtension.class)
+class PerformanceQueryServiceTest {
+
+    @Mock
+    private KopisPerformanceRepository kopisPerformanceRepository;
+
+    @Mock
+    private TrigramSearchSupport trigramSearchSupport;
+
+    @InjectMocks
+    private PerformanceQueryService performanceQueryService;
+
+    @Test
+    @DisplayName("제목 정렬로 이어 읽기를 요청하면 잘못된 입력으로 처리한다")
+    void scrollPerformances_titleSort_throws() {
+        assertThatThrownBy(() -> performanceQueryService.scrollPerformances(
+                null, null, null, PageRequest.of(0, 12, Sort.by("title"))))
+                .isInstanceOf(InvalidInputException.class);
+
+        verifyNoInteractions(kopisPerformanceRepository);
+    }
+
+    @Test
+    @DisplayName("빈 검색어는 DB를 조회하지 않는다")
+    void searchPerformances_blankKeyword_skipsQuery() {
+        assertThat(performanceQueryService.searchPerformances("  ", 10)).isEmpty();
+
+        verifyNoInteractions(kopisPerformanceRepository);
+    }
+
+    @Test
+    @DisplayName("세 글자 미만 검색어는 제목 앞부분 일치로 찾는다")
+    void searchPerformances_shortKeyword_usesPrefix() {
+        performanceQueryService.searchPerformances(" 혁오 ", 10);
+
+        verify(kopisPerformanceRepository).searchListItemsByPrefix("혁오", 10);
+        verify(kopisPerformanceRepository, never()).searchListItems(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("pg_trgm이 있으면 세 글자 이상은 트라이그램 검색을 쓴다")
+    void searchPerformances_trigramAvailable_usesTrigram() {
+        when(trigramSearchSupport.isAvailable()).thenReturn(true);
+
+        performanceQueryService.searchPerformances("검정치마", 10);
+
+        verify(kopisPerformanceRepository).searchListItems("검정치마", 10);
+    }
+
+    @Test
+    @DisplayName("pg_trgm이 없으면 부분 일치 검색으로 대신한다")
+    void searchPerformances_trigramUnavailable_usesPattern() {
+        when(trigramSearchSupport.isAvailable()).thenReturn(false);
+
+        performanceQueryService.searchPerformances("검정치마", 10);
+
+        verify(kopisPerformanceRepository).searchListItemsByPattern("검정치마", 10);
+        verify(kopisPerformanceRepository, never()).searchListItems(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("요청 건수는 최대 50건으로 자른다")
+    void searchPerformances_largeSize_capsLimit() {
+        when(trigramSearchSupport.isAvailable()).thenReturn(true);
+
+        performanceQueryService.searchPerformances("검정치마", 1000);
+
+        verify(kopisPerformanceRepository).searchListItems("검정치마", 50);
+    }
+}
@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.stagelog.Stagelog.global.exception.InvalidInputException;
+import com.stagelog.Stagelog.user.event.UserChangedEvent;
+import com.stagelog.Stagelog.user.event.UserTokenRevokedEvent;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -36,4 +38,30 @@ class UserTest {
                 "local-1"
         )).isInstanceOf(InvalidInputException.class);
     }
+
+    @Test
+    @DisplayName("정지하면 토큰 버전이 올라가고, 다시 활성화해도 버전은 내려가지 않는다")
+    void suspend_incrementsTokenVersion() {
+        User user = User.createLocalUser("local", "encoded-password", "localUser", "local@example.com");
+
+        user.suspend();
+        user.activate();
+
+        assertThat(user.getTokenVersion()).isEqualTo(1);
+        assertThat(user.getStatus()).isEqualTo(UserStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("정지하면 principal 캐시 무효화와 토큰 무효화 이벤트를 등록한다")
+    void suspend_registersInvalidationEvents() {
+        User user = User.createLocalUser("local", "encoded-password", "localUser", "local@example.com");
+
+        user.suspend();
+
+        assertThat(user.domainEvents()).containsExactly(
+                new UserTokenRevokedEvent(null, 1),
+                new UserChangedEvent(null, "local@example.com"));
+        user.clearDomainEvents();
+        assertThat(user.domainEvents()).isEmpty();
+    }
 }
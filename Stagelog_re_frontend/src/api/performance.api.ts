@@ -19,6 +19,17 @@ export const performanceAPI = {
   getPerformances: (params: PerformanceFilters) =>
     client.get<PageResponse<PerformanceListItem>>('/api/performances', { params }),
 
+  /**
+   * 공연 검색 (검색창 자동완성용, 관련도 순)
+   * @param keyword - 아티스트명 또는 공연명
+   * @param size - 최대 건수 (서버에서 50건으로 제한)
+   * @returns 검색된 공연 목록
+   */
+  searchPerformances: (keyword: string, size = 10) =>
+    client.get<PerformanceListItem[]>('/api/performances/search', {
+      params: { keyword, size },
+    }),
+
   /**
    * 공연 상세 조회
    * @param id - 공연 ID
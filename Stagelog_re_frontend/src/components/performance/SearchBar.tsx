@@ -1,10 +1,13 @@
 import React, { useState } from 'react';
 import { FaSearch, FaTimes } from 'react-icons/fa';
 import { useDebounce } from '../../hooks/useDebounce';
+import { PerformanceListItem } from '../../types/performance.types';
 
 interface SearchBarProps {
   onSearch?: (keyword: string) => void;
   onSubmit?: (keyword: string) => void;
+  suggestions?: PerformanceListItem[];  // 자동완성 결과 (onSearch 검색어 기준)
+  onSelect?: (performance: PerformanceListItem) => void;
   placeholder?: string;
   className?: string;
 }
@@ -16,6 +19,8 @@ interface SearchBarProps {
 const SearchBar: React.FC<SearchBarProps> = ({
   onSearch,
   onSubmit,
+  suggestions = [],
+  onSelect,
   placeholder = '아티스트, 공연, 페스티벌을 검색해보세요',
   className = '',
 }) => {
@@ -30,6 +35,8 @@ const SearchBar: React.FC<SearchBarProps> = ({
     }
   }, [debouncedSearch, onSearch]);
 
+  const showSuggestions = isFocused && !!searchTerm.trim() && suggestions.length > 0;
+
   const handleClear = () => {
     setSearchTerm('');
   };
@@ -112,6 +119,37 @@ const SearchBar: React.FC<SearchBarProps> = ({
           absolute right-16 top-1/2 -translate-y-1/2 w-px h-8 transition-colors duration-300
           ${searchTerm ? 'bg-border' : 'bg-transparent'}
         `} />
+
+        {/* 자동완성 목록 */}
+        {showSuggestions && (
+          <ul className="absolute left-0 right-0 top-full mt-2 z-20 max-h-96 overflow-y-auto rounded-2xl bg-bg-card border border-border shadow-lg">
+            {suggestions.map((performance) => (
+              <li key={performance.id}>
+                <button
+                  type="button"
+                  // blur보다 먼저 처리해야 목록이 닫히기 전에 선택된다
+                  onMouseDown={(e) => {
+                    e.preventDefault();
+                    if (onSelect) onSelect(performance);
+                  }}
+                  className="w-full flex items-center gap-4 px-5 py-3 text-left hover:bg-bg-surface transition-colors duration-300"
+                >
+                  <img
+                    src={performance.postUrl || '/placeholder-poster.jpg'}
+                    alt={performance.title}
+                    className="w-10 h-14 object-cover rounded-md flex-shrink-0"
+                  />
+                  <div className="min-w-0">
+                    <p className="text-text-primary font-medium truncate">{performance.title}</p>
+                    <p className="text-xs text-text-muted">
+                      {performance.startDate} ~ {performance.endDate}
+                    </p>
+                  </div>
+                </button>
+              </li>
+            ))}
+          </ul>
+        )}
       </div>
 
       {/* 검색 힌트 */}
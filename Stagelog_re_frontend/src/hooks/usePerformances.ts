@@ -14,6 +14,19 @@ export const usePerformances = (filters: PerformanceFilters) => {
   });
 };
 
+/**
+ * 공연 검색 Hook (검색창 자동완성용)
+ * @param keyword - 검색어 (debounce된 값을 넘길 것)
+ */
+export const useSearchPerformances = (keyword: string) => {
+  const trimmed = keyword.trim();
+  return useQuery({
+    queryKey: ['performanceSearch', trimmed],
+    queryFn: () => performanceAPI.searchPerformances(trimmed).then(res => res.data),
+    enabled: !!trimmed, // 검색어가 있을 때만 쿼리 실행
+  });
+};
+
 /**
  * 공연 상세 조회 Hook
  * @param id - 공연 ID
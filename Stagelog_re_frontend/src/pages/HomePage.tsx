@@ -1,6 +1,6 @@
 import React, { useState } from 'react';
 import { useNavigate } from 'react-router-dom';
-import { usePerformances, useCalendarPerformances } from '../hooks/usePerformances';
+import { usePerformances, useCalendarPerformances, useSearchPerformances } from '../hooks/usePerformances';
 import Header from '../components/layout/Header';
 import Footer from '../components/layout/Footer';
 import Banner from '../components/common/Banner';
@@ -9,6 +9,7 @@ import PerformanceCard from '../components/performance/PerformanceCard';
 import Calendar from '../components/performance/Calendar';
 import Loading from '../components/common/Loading';
 import { ROUTES } from '../utils/constants';
+import { PerformanceListItem } from '../types/performance.types';
 
 /**
  * 메인 페이지 (HomePage) - Neon Night 테마
@@ -18,6 +19,7 @@ const HomePage: React.FC = () => {
   const navigate = useNavigate();
   const [currentYear, setCurrentYear] = useState(new Date().getFullYear());
   const [currentMonth, setCurrentMonth] = useState(new Date().getMonth() + 1);
+  const [searchKeyword, setSearchKeyword] = useState('');
 
   // 국내공연 데이터
   const { data: domesticData, isLoading: isDomesticLoading } = usePerformances({
@@ -39,6 +41,14 @@ const HomePage: React.FC = () => {
     currentMonth
   );
 
+  // 검색어 자동완성 (SearchBar가 debounce한 검색어로 /search 조회)
+  const { data: searchSuggestions } = useSearchPerformances(searchKeyword);
+
+  // 자동완성 항목 선택 시 상세 페이지로 이동
+  const handleSuggestionSelect = (performance: PerformanceListItem) => {
+    navigate(ROUTES.PERFORMANCE_DETAIL(performance.id));
+  };
+
   // 검색 제출 시 검색 페이지로 이동
   const handleSearchSubmit = (keyword: string) => {
     if (keyword.trim()) {
@@ -71,7 +81,12 @@ const HomePage: React.FC = () => {
 
         {/* 검색 섹션 */}
         <section className="py-4 animate-fade-in-up stagger-1">
-          <SearchBar onSubmit={handleSearchSubmit} />
+          <SearchBar
+            onSearch={setSearchKeyword}
+            onSubmit={handleSearchSubmit}
+            suggestions={searchSuggestions}
+            onSelect={handleSuggestionSelect}
+          />
         </section>
 
         {/* 국내공연 섹션 */}